@@ -4,7 +4,9 @@ import br.com.oriontask.backend.auth.dto.SessionValidationResult;
 import br.com.oriontask.backend.auth.dto.SessionValidationResult.SessionStatus;
 import br.com.oriontask.backend.auth.service.TokenService;
 import br.com.oriontask.backend.refreshtoken.service.RefreshTokenService;
+import br.com.oriontask.backend.shared.service.RevocationEpochService;
 import br.com.oriontask.backend.shared.utils.UserLookupService;
+import br.com.oriontask.backend.users.model.Users;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import java.util.UUID;
@@ -22,6 +24,7 @@ public class AuthPolicy {
   private final TokenService tokenService;
   private final RefreshTokenService refreshTokenService;
   private final UserLookupService userLookupService;
+  private final RevocationEpochService revocationEpochs;
 
   public void verifyPasswordHash(String reqPassword, String userPassword) {
     if (!passwordEncoder.matches(reqPassword, userPassword)) {
@@ -45,7 +48,10 @@ public class AuthPolicy {
     try {
       if (accessToken != null) {
         originalDecodedAccessToken = tokenService.validateAccessToken(accessToken);
-        accessTokenOriginallyValid = true;
+        accessTokenOriginallyValid =
+            !revocationEpochs.isRevoked(
+                UUID.fromString(originalDecodedAccessToken.getSubject()),
+                originalDecodedAccessToken.getIssuedAt());
       }
     } catch (JWTVerificationException e) {
       log.debug("Access Token is invalid or expired: {}", e.getMessage());
@@ -56,10 +62,9 @@ public class AuthPolicy {
         try {
           DecodedJWT decodedRefreshToken = refreshTokenService.validateRefreshToken(refreshToken);
           UUID userId = UUID.fromString(decodedRefreshToken.getSubject());
-          String newAccessToken =
-              tokenService.generateAccessToken(userLookupService.getRequiredUser(userId));
-          String newRefreshToken =
-              refreshTokenService.createRefreshToken(userLookupService.getRequiredUser(userId));
+          Users user = userLookupService.getRequiredUser(userId);
+          String newAccessToken = tokenService.generateAccessToken(user);
+          String newRefreshToken = refreshTokenService.createRefreshToken(user);
 
           return new SessionValidationResult(
               SessionStatus.REFRESHED, newAccessToken, newRefreshToken, userId);
@@ -8,8 +8,10 @@ import br.com.oriontask.backend.auth.policy.AuthPolicy;
 import br.com.oriontask.backend.refreshtoken.service.RefreshTokenService;
 import br.com.oriontask.backend.shared.service.EmailService;
 import br.com.oriontask.backend.shared.service.RedisTokenService;
+import br.com.oriontask.backend.shared.service.RevocationEpochService;
 import br.com.oriontask.backend.shared.utils.UserLookupService;
 import br.com.oriontask.backend.users.dto.UserResponseDTO;
+import br.com.oriontask.backend.users.event.UserIdentityChangedEvent;
 import br.com.oriontask.backend.users.mapper.UsersMapper;
 import br.com.oriontask.backend.users.model.Users;
 import br.com.oriontask.backend.users.repository.UsersRepository;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Service;
 
@@ -35,6 +38,8 @@ public class AuthService {
   private final RedisTokenService redisTokenService;
   private final AuthPolicy authPolicy;
   private final UserLookupService userLookupService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final RevocationEpochService revocationEpochs;
 
   private static final Set<String> DISPOSABLE_DOMAINS =
       new HashSet<>(
@@ -99,6 +104,7 @@ public class AuthService {
     user.setConfirmationToken(null);
     user.setConfirmationTokenExpiresAt(null);
     usersRepository.save(user);
+    eventPublisher.publishEvent(new UserIdentityChangedEvent(user.getId()));
     log.info("Email confirmed for userId={}", user.getId());
   }
 
@@ -158,6 +164,8 @@ public class AuthService {
     user.setPasswordHash(BCrypt.hashpw(newPassword, BCrypt.gensalt()));
     usersRepository.save(user);
     redisTokenService.deletePasswordResetToken(token);
+    revocationEpochs.bump(userId);
+    eventPublisher.publishEvent(new UserIdentityChangedEvent(userId));
     log.info("Password reset successfully for userId={}", userId);
   }
 
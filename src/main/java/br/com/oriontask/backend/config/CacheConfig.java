@@ -0,0 +1,57 @@
+package br.com.oriontask.backend.config;
+
+import br.com.oriontask.backend.dharmas.dto.DharmaSnapshot;
+import br.com.oriontask.backend.shared.cache.TwoTierCacheManager;
+import br.com.oriontask.backend.shared.utils.CacheNames;
+import br.com.oriontask.backend.users.dto.UserIdentity;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration
+public class CacheConfig {
+
+  @Value("${app.cache.redis.enabled:true}")
+  private boolean redisTierEnabled;
+
+  @Value("${app.redis.pubsub.enabled:true}")
+  private boolean pubSubEnabled;
+
+  @Value("${app.cache.invalidation-channel:oriontask:cache-invalidation}")
+  private String invalidationChannel;
+
+  /**
+   * Every cache gets a local tier and, unless disabled, a Redis tier shared by all nodes. Evictions
+   * are broadcast on the invalidation channel whenever pub/sub is on, with or without the Redis
+   * tier; the TTL bounds how long an entry can outlive a lost one.
+   */
+  @Bean
+  public TwoTierCacheManager cacheManager(
+      StringRedisTemplate redisTemplate,
+      JsonMapper jsonMapper,
+      @Value("${app.cache.dharmas.ttl:10m}") Duration dharmasTtl,
+      @Value("${app.cache.dharmas.max-size:10000}") long dharmasMaxSize,
+      @Value("${app.cache.users.ttl:30m}") Duration usersTtl,
+      @Value("${app.cache.users.max-size:50000}") long usersMaxSize,
+      @Value("${app.cache.revocation-epochs.ttl:30s}") Duration epochsTtl,
+      @Value("${app.cache.revocation-epochs.max-size:100000}") long epochsMaxSize) {
+    TwoTierCacheManager cacheManager =
+        new TwoTierCacheManager(
+            redisTemplate,
+            jsonMapper,
+            pubSubEnabled ? invalidationChannel : null,
+            redisTierEnabled);
+    return cacheManager
+        .register(
+            CacheNames.DHARMAS,
+            jsonMapper.getTypeFactory().constructCollectionType(List.class, DharmaSnapshot.class),
+            dharmasTtl,
+            dharmasMaxSize)
+        .register(CacheNames.USERS, UserIdentity.class, usersTtl, usersMaxSize)
+        .registerLocal(CacheNames.REVOCATION_EPOCHS, Long.class, epochsTtl, epochsMaxSize);
+  }
+}
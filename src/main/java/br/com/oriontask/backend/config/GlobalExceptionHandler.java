@@ -1,5 +1,6 @@
 package br.com.oriontask.backend.config;
 
+import br.com.oriontask.backend.tasks.exception.SyncCursorExpiredException;
 import br.com.oriontask.backend.users.exception.UserNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.Instant;
@@ -118,4 +119,17 @@ public class GlobalExceptionHandler {
 
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
   }
+
+  @ExceptionHandler(SyncCursorExpiredException.class)
+  public ResponseEntity<Map<String, Object>> handleSyncCursorExpiredException(
+      SyncCursorExpiredException ex, HttpServletRequest request) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("timestamp", Instant.now().toString());
+    response.put("status", HttpStatus.GONE.value());
+    response.put("error", "Gone");
+    response.put("message", ex.getMessage());
+    response.put("path", request.getRequestURI());
+
+    return ResponseEntity.status(HttpStatus.GONE).body(response);
+  }
 }
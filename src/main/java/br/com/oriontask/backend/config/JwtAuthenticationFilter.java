@@ -1,6 +1,8 @@
 package br.com.oriontask.backend.config;
 
 import br.com.oriontask.backend.auth.service.TokenService;
+import br.com.oriontask.backend.shared.service.RevocationEpochService;
+import br.com.oriontask.backend.shared.service.RevokedTokenCache;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,7 +13,6 @@ import java.util.Collections;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,9 +26,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final TokenService tokenService;
-  private final RedisTemplate<Object, Object> redisTemplate;
-
-  private static final String BLACKLIST_TOKEN_PREFIX = "blacklisted_token:";
+  private final RevokedTokenCache revokedTokens;
+  private final RevocationEpochService revocationEpochs;
 
   @Override
   protected void doFilterInternal(
@@ -44,12 +44,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String jti = decodedJWT.getId();
 
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_TOKEN_PREFIX + jti))) {
+        if (revokedTokens.isRevoked(jti)) {
           throw new RuntimeException("Token invalidated");
         }
 
         UUID userId = UUID.fromString(decodedJWT.getSubject());
 
+        if (revocationEpochs.isRevoked(userId, decodedJWT.getIssuedAt())) {
+          throw new RuntimeException("Token issued before the user's revocation epoch");
+        }
+
         UsernamePasswordAuthenticationToken authentication =
             new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
 
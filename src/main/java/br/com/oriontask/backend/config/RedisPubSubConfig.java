@@ -0,0 +1,47 @@
+package br.com.oriontask.backend.config;
+
+import br.com.oriontask.backend.events.service.TaskEventSubscriber;
+import br.com.oriontask.backend.shared.cache.CacheInvalidationSubscriber;
+import br.com.oriontask.backend.shared.service.RevokedTokenSubscriber;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(
+    name = "app.redis.pubsub.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class RedisPubSubConfig {
+
+  /**
+   * One Redis connection and one channel subscription per node, whatever the number of open SSE
+   * streams. Messages are handed to virtual threads so a slow stream cannot stall the others. The
+   * cache invalidation and token revocation channels share the same connection.
+   */
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      TaskEventSubscriber taskEventSubscriber,
+      CacheInvalidationSubscriber cacheInvalidationSubscriber,
+      RevokedTokenSubscriber revokedTokenSubscriber,
+      @Value("${app.events.channel:oriontask:task-events}") String channel,
+      @Value("${app.cache.invalidation-channel:oriontask:cache-invalidation}")
+          String invalidationChannel,
+      @Value("${app.auth.revocation-channel:oriontask:token-revocations}")
+          String revocationChannel) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.setTaskExecutor(new VirtualThreadTaskExecutor("task-events-"));
+    container.addMessageListener(taskEventSubscriber, new ChannelTopic(channel));
+    container.addMessageListener(
+        cacheInvalidationSubscriber, new ChannelTopic(invalidationChannel));
+    container.addMessageListener(revokedTokenSubscriber, new ChannelTopic(revocationChannel));
+    return container;
+  }
+}
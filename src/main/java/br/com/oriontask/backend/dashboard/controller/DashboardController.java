@@ -0,0 +1,30 @@
+package br.com.oriontask.backend.dashboard.controller;
+
+import br.com.oriontask.backend.dashboard.dto.DashboardDTO;
+import br.com.oriontask.backend.dashboard.service.DashboardService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+  private final DashboardService dashboardService;
+
+  /** Replaces the four requests the home screen made; answers 304 while nothing changed. */
+  @GetMapping
+  public ResponseEntity<DashboardDTO> get(Authentication authentication, WebRequest request) {
+    UUID userId = UUID.fromString(authentication.getName());
+    if (request.checkNotModified(dashboardService.getETag(userId))) {
+      return null;
+    }
+    return ResponseEntity.ok(dashboardService.getDashboard(userId));
+  }
+}
@@ -0,0 +1,13 @@
+package br.com.oriontask.backend.dashboard.dto;
+
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
+import br.com.oriontask.backend.users.dto.UserResponseDTO;
+import java.util.List;
+
+/** {@code waiting} is the first slice of WAITING; its cursor continues on {@code GET /tasks}. */
+public record DashboardDTO(
+    UserResponseDTO user,
+    List<TaskDTO> now,
+    TaskSliceDTO waiting,
+    List<DharmaSummaryDTO> dharmas) {}
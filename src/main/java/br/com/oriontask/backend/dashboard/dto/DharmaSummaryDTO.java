@@ -0,0 +1,3 @@
+package br.com.oriontask.backend.dashboard.dto;
+
+public record DharmaSummaryDTO(Long id, String name, String color, Long openTasks) {}
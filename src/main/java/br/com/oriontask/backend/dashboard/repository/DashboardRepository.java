@@ -0,0 +1,38 @@
+package br.com.oriontask.backend.dashboard.repository;
+
+import br.com.oriontask.backend.dashboard.dto.DharmaSummaryDTO;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.users.model.Users;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+public interface DashboardRepository extends Repository<Users, UUID> {
+
+  /** One round trip; each subquery is an index-only scan, see V22. */
+  @Query(
+      """
+      SELECT u.updatedAt AS userUpdatedAt,
+          (SELECT COUNT(t) FROM Tasks t WHERE t.user.id = :userId) AS taskCount,
+          (SELECT MAX(t.updatedAt) FROM Tasks t WHERE t.user.id = :userId) AS tasksUpdatedAt,
+          (SELECT COUNT(d) FROM Dharmas d WHERE d.user.id = :userId) AS dharmaCount,
+          (SELECT MAX(d.updatedAt) FROM Dharmas d WHERE d.user.id = :userId) AS dharmasUpdatedAt
+      FROM Users u
+      WHERE u.id = :userId
+      """)
+  DashboardVersion findVersionByUserId(UUID userId);
+
+  /** Visible dharmas with their not-done task counts, grouped in a single query. */
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.dashboard.dto.DharmaSummaryDTO(
+          d.id, d.name, d.color, COUNT(t.id))
+      FROM Dharmas d
+      LEFT JOIN Tasks t ON t.dharmas = d AND t.status <> :doneStatus
+      WHERE d.user.id = :userId AND d.hidden = false
+      GROUP BY d.id, d.name, d.color
+      ORDER BY d.id
+      """)
+  List<DharmaSummaryDTO> findVisibleDharmaSummaries(UUID userId, TaskStatus doneStatus);
+}
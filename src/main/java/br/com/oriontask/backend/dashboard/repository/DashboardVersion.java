@@ -0,0 +1,37 @@
+package br.com.oriontask.backend.dashboard.repository;
+
+import java.sql.Timestamp;
+
+/**
+ * Task and dharma listing versions plus the profile's last update: everything the dashboard shows
+ * changes at least one of them, so together they stand in for an ETag of the whole response.
+ */
+public interface DashboardVersion {
+  Timestamp getUserUpdatedAt();
+
+  Long getTaskCount();
+
+  Timestamp getTasksUpdatedAt();
+
+  Long getDharmaCount();
+
+  Timestamp getDharmasUpdatedAt();
+
+  default String etag() {
+    return "\""
+        + stamp(getUserUpdatedAt())
+        + "-"
+        + getTaskCount()
+        + "."
+        + stamp(getTasksUpdatedAt())
+        + "-"
+        + getDharmaCount()
+        + "."
+        + stamp(getDharmasUpdatedAt())
+        + "\"";
+  }
+
+  private static String stamp(Timestamp timestamp) {
+    return timestamp == null ? "0" : timestamp.getTime() / 1000 + "." + timestamp.getNanos();
+  }
+}
@@ -0,0 +1,74 @@
+package br.com.oriontask.backend.dashboard.service;
+
+import br.com.oriontask.backend.dashboard.dto.DashboardDTO;
+import br.com.oriontask.backend.dashboard.dto.DharmaSummaryDTO;
+import br.com.oriontask.backend.dashboard.repository.DashboardRepository;
+import br.com.oriontask.backend.dashboard.repository.DashboardVersion;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.shared.utils.UserLookupService;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.service.TasksService;
+import br.com.oriontask.backend.users.dto.UserResponseDTO;
+import br.com.oriontask.backend.users.exception.UserNotFoundException;
+import br.com.oriontask.backend.users.mapper.UsersMapper;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Everything the "Agora" screen needs in one response: the profile, the NOW tasks, the head of
+ * WAITING and the visible dharmas with their open-task counts.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+  private final DashboardRepository repository;
+  private final TasksService tasksService;
+  private final TaskStatusTransitionPolicy statusPolicy;
+  private final UserLookupService userLookup;
+  private final UsersMapper usersMapper;
+
+  @Value("${app.dashboard.waiting-size:10}")
+  private int waitingSize;
+
+  /** Read before the dashboard itself, so a concurrent write can only leave the tag stale. */
+  @Transactional(readOnly = true)
+  public String getETag(UUID userId) {
+    DashboardVersion version = repository.findVersionByUserId(userId);
+    if (version == null) {
+      throw new UserNotFoundException();
+    }
+    return version.etag();
+  }
+
+  /** Repeatable read, so the four parts come from one snapshot like the tag they are cached by. */
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public DashboardDTO getDashboard(UUID userId) {
+    log.debug("DashboardService.getDashboard requested userId={}", userId);
+    UserResponseDTO user = usersMapper.toDTO(userLookup.getRequiredProfile(userId));
+    List<TaskDTO> now =
+        tasksService
+            .listTasksByCursor(userId, null, TaskStatus.NOW, null, statusPolicy.maxNowTasks())
+            .items();
+    TaskSliceDTO waiting =
+        tasksService.listTasksByCursor(userId, null, TaskStatus.WAITING, null, waitingSize);
+    List<DharmaSummaryDTO> dharmas = repository.findVisibleDharmaSummaries(userId, TaskStatus.DONE);
+
+    log.debug(
+        "DashboardService.getDashboard completed userId={} now={} waiting={} dharmas={}",
+        userId,
+        now.size(),
+        waiting.items().size(),
+        dharmas.size());
+    return new DashboardDTO(user, now, waiting, dharmas);
+  }
+}
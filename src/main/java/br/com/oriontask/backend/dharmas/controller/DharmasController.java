@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/dharmas")
@@ -38,8 +39,12 @@ public class DharmasController {
   @GetMapping
   public ResponseEntity<List<DharmasDTO>> findAll(
       @RequestParam(required = false, defaultValue = "false") boolean includeHidden,
-      Authentication authentication) {
+      Authentication authentication,
+      WebRequest request) {
     UUID userId = UUID.fromString(authentication.getName());
+    if (request.checkNotModified(dharmasService.getListingETag(userId))) {
+      return null;
+    }
     return ResponseEntity.ok(dharmasService.listDharmas(userId, includeHidden));
   }
 
@@ -52,6 +57,10 @@ public class DharmasController {
     return ResponseEntity.ok(dharmasService.updateDharmas(userId, editDTO, dharmasId));
   }
 
+  /**
+   * Tasks take the new flag before this returns, except in dharmas with more tasks than
+   * dharma.hidden.chunk-size: the rest of those are updated in the background shortly after.
+   */
   @PatchMapping("/{dharmasId}/hidden")
   public ResponseEntity<Void> toggleHidden(
       @PathVariable Long dharmasId, Authentication authentication) {
@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.dharmas.dto;
+
+import java.util.UUID;
+
+/** Cached view of a dharma: what task and project writes need, without the owning user. */
+public record DharmaSnapshot(Long id, UUID userId, String name, String color, Boolean hidden) {}
@@ -0,0 +1,4 @@
+package br.com.oriontask.backend.dharmas.event;
+
+/** Published when a dharma is hidden or shown; its tasks follow once the change commits. */
+public record DharmaHiddenChangedEvent(Long dharmasId) {}
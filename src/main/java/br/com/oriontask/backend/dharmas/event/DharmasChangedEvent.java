@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.dharmas.event;
+
+import java.util.UUID;
+
+/** Published on any write to a user's dharmas; their cached lookups are evicted on commit. */
+public record DharmasChangedEvent(UUID userId) {}
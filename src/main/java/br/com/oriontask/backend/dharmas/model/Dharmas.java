@@ -2,11 +2,13 @@ package br.com.oriontask.backend.dharmas.model;
 
 import br.com.oriontask.backend.users.model.Users;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Pattern;
 import java.sql.Timestamp;
@@ -29,10 +31,12 @@ import org.hibernate.validator.constraints.Length;
 public class Dharmas {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tab_dharma_id_seq")
+  @SequenceGenerator(
+      name = "tab_dharma_id_seq", sequenceName = "tab_dharma_id_seq", allocationSize = 50)
   private Long id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private Users user;
 
@@ -1,11 +1,17 @@
 package br.com.oriontask.backend.dharmas.repository;
 
+import br.com.oriontask.backend.dharmas.dto.DharmaSnapshot;
 import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.shared.utils.ListingVersion;
 import br.com.oriontask.backend.users.model.Users;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 public interface DharmasRepository extends JpaRepository<Dharmas, Long> {
   Optional<Dharmas> findById(Long id);
@@ -17,4 +23,39 @@ public interface DharmasRepository extends JpaRepository<Dharmas, Long> {
   List<Dharmas> findByUserIdAndHiddenFalse(UUID userId);
 
   Optional<Dharmas> findByIdAndUserId(Long dharmasId, UUID userId);
+
+  List<Dharmas> findByIdInAndUserId(Collection<Long> dharmasIds, UUID userId);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.dharmas.dto.DharmaSnapshot(
+          d.id, d.user.id, d.name, d.color, d.hidden)
+      FROM Dharmas d
+      WHERE d.user.id = :userId
+      """)
+  List<DharmaSnapshot> findSnapshotsByUserId(UUID userId);
+
+  /** Dharmas with at least one task whose hidden flag disagrees with the dharma's. */
+  @Query(
+      value =
+          """
+          SELECT d.id FROM tab_dharma d
+          WHERE EXISTS (
+              SELECT 1 FROM tab_tasks t
+              WHERE t.dharma_id = d.id AND t.hidden <> d.hidden)
+          """,
+      nativeQuery = true)
+  List<Long> findIdsWithStaleTaskHidden();
+
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query("SELECT d FROM Dharmas d WHERE d.id = :id")
+  Optional<Dharmas> lockById(Long id);
+
+  @Query(
+      """
+      SELECT COUNT(d) AS count, MAX(d.updatedAt) AS lastUpdatedAt
+      FROM Dharmas d
+      WHERE d.user.id = :userId
+      """)
+  ListingVersion findListingVersionByUserId(UUID userId);
 }
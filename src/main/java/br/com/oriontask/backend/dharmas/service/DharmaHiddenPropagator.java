@@ -0,0 +1,91 @@
+package br.com.oriontask.backend.dharmas.service;
+
+import br.com.oriontask.backend.dharmas.event.DharmaHiddenChangedEvent;
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Finishes copying a dharma's hidden flag to its tasks after the toggle commits. The toggle itself
+ * updates the first chunk, so only dharmas larger than one chunk get here; the rest goes one
+ * bounded set-based UPDATE per transaction, so neither the request nor a single transaction grows
+ * with the dharma. The listener is not durable, so a periodic pass repairs dharmas whose
+ * propagation was cut short by a restart.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DharmaHiddenPropagator {
+
+  private final DharmasRepository repository;
+  private final TasksRepository tasksRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ClusterJobRunner jobRunner;
+
+  @Value("${dharma.hidden.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${dharma.hidden.reconciliation.interval-ms:3600000}")
+  private long reconciliationIntervalMs;
+
+  @Async
+  @TransactionalEventListener
+  public void onHiddenChanged(DharmaHiddenChangedEvent event) {
+    propagate(event.dharmasId());
+  }
+
+  @Scheduled(fixedDelayString = "${dharma.hidden.reconciliation.interval-ms:3600000}")
+  public void scheduledReconcile() {
+    jobRunner.runExclusive(
+        "dharma-hidden-reconciliation",
+        Duration.ofMillis(reconciliationIntervalMs),
+        this::reconcile);
+  }
+
+  /** Re-propagates every dharma that still has a task with the wrong flag. */
+  public int reconcile() {
+    List<Long> stale = repository.findIdsWithStaleTaskHidden();
+    for (Long dharmasId : stale) {
+      jobRunner.checkLease();
+      propagate(dharmasId);
+    }
+    log.info("DharmaHiddenPropagator.reconcile completed dharmas={}", stale.size());
+    return stale.size();
+  }
+
+  public int propagate(Long dharmasId) {
+    int total = 0;
+    Integer updated;
+    do {
+      updated = transactionTemplate.execute(status -> propagateChunk(dharmasId));
+      total += updated == null ? 0 : updated;
+    } while (updated != null && updated == chunkSize);
+    log.info(
+        "DharmaHiddenPropagator.propagate completed dharmasId={} updated={}", dharmasId, total);
+    return total;
+  }
+
+  /**
+   * The flag is read under a share lock, so a toggle committing meanwhile waits for this chunk and
+   * its own propagation then sees every row this one wrote.
+   */
+  private int propagateChunk(Long dharmasId) {
+    Optional<Dharmas> dharmas = repository.lockById(dharmasId);
+    if (dharmas.isEmpty()) {
+      return 0;
+    }
+    return tasksRepository.updateHiddenByDharmasId(dharmasId, dharmas.get().getHidden(), chunkSize);
+  }
+}
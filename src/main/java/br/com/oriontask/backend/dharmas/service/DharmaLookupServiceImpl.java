@@ -1,22 +1,75 @@
 package br.com.oriontask.backend.dharmas.service;
 
+import br.com.oriontask.backend.dharmas.dto.DharmaSnapshot;
+import br.com.oriontask.backend.dharmas.event.DharmasChangedEvent;
 import br.com.oriontask.backend.dharmas.model.Dharmas;
 import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
+import br.com.oriontask.backend.shared.utils.CacheNames;
 import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.users.model.Users;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Serves lookups from a per-user cache entry holding snapshots of all the user's dharmas, which
+ * DharmasPolicy caps at a handful. Returned entities are detached copies: fine as association
+ * targets and for id, name, color and hidden, but their user is only an id reference.
+ */
 @Service
 @RequiredArgsConstructor
 public class DharmaLookupServiceImpl implements DharmaLookupService {
 
   private final DharmasRepository repository;
+  private final CacheManager cacheManager;
 
   @Override
   public Dharmas getRequiredDharma(Long dharmasId, UUID userId) {
-    return repository
-        .findByIdAndUserId(dharmasId, userId)
+    return findSnapshots(userId).stream()
+        .filter(snapshot -> snapshot.id().equals(dharmasId))
+        .findFirst()
+        .map(this::toDharmas)
         .orElseThrow(() -> new IllegalArgumentException("Dharmas not found"));
   }
+
+  @Override
+  public Map<Long, Dharmas> getDharmas(Collection<Long> dharmasIds, UUID userId) {
+    return findSnapshots(userId).stream()
+        .filter(snapshot -> dharmasIds.contains(snapshot.id()))
+        .collect(Collectors.toMap(DharmaSnapshot::id, this::toDharmas));
+  }
+
+  /** Evicting after commit keeps a concurrent lookup from re-caching the pre-change rows. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDharmasChanged(DharmasChangedEvent event) {
+    Cache cache = cacheManager.getCache(CacheNames.DHARMAS);
+    if (cache != null) {
+      cache.evict(event.userId().toString());
+    }
+  }
+
+  private List<DharmaSnapshot> findSnapshots(UUID userId) {
+    Cache cache = cacheManager.getCache(CacheNames.DHARMAS);
+    if (cache == null) {
+      return repository.findSnapshotsByUserId(userId);
+    }
+    return cache.get(userId.toString(), () -> repository.findSnapshotsByUserId(userId));
+  }
+
+  private Dharmas toDharmas(DharmaSnapshot snapshot) {
+    return Dharmas.builder()
+        .id(snapshot.id())
+        .user(Users.builder().id(snapshot.userId()).build())
+        .name(snapshot.name())
+        .color(snapshot.color())
+        .hidden(snapshot.hidden())
+        .build();
+  }
 }
@@ -3,6 +3,8 @@ package br.com.oriontask.backend.dharmas.service;
 import br.com.oriontask.backend.dharmas.dto.DharmasDTO;
 import br.com.oriontask.backend.dharmas.dto.NewDharmasDTO;
 import br.com.oriontask.backend.dharmas.dto.UpdateDharmasDTO;
+import br.com.oriontask.backend.dharmas.event.DharmaHiddenChangedEvent;
+import br.com.oriontask.backend.dharmas.event.DharmasChangedEvent;
 import br.com.oriontask.backend.dharmas.mapper.DharmasMapper;
 import br.com.oriontask.backend.dharmas.model.Dharmas;
 import br.com.oriontask.backend.dharmas.policy.DharmasPolicy;
@@ -17,7 +19,8 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -30,6 +33,13 @@ public class DharmasService {
 
   private final DharmasMapper dharmasMapper;
   private final DharmasPolicy dharmasPolicy;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${dharma.delete.chunk-size:1000}")
+  private int deleteChunkSize;
+
+  @Value("${dharma.hidden.chunk-size:1000}")
+  private int hiddenChunkSize;
 
   public DharmasDTO create(NewDharmasDTO createDTO, UUID userId) {
     log.info("DharmasService.create requested userId={}", userId);
@@ -48,6 +58,7 @@ public class DharmasService {
     }
 
     dharmas = repository.save(dharmas);
+    eventPublisher.publishEvent(new DharmasChangedEvent(userId));
     log.info("DharmasService.create completed dharmasId={} userId={}", dharmas.getId(), userId);
     return dharmasMapper.toDTO(dharmas);
   }
@@ -70,6 +81,10 @@ public class DharmasService {
     return result;
   }
 
+  public String getListingETag(UUID userId) {
+    return repository.findListingVersionByUserId(userId).etag();
+  }
+
   @Transactional
   public DharmasDTO updateDharmas(UUID userId, UpdateDharmasDTO editDTO, Long dharmasId) {
     log.info("DharmasService.updateDharmas requested dharmasId={}", dharmasId);
@@ -81,6 +96,7 @@ public class DharmasService {
     dharmas = dharmasMapper.partialUpdate(editDTO, dharmas);
 
     dharmas = repository.save(dharmas);
+    eventPublisher.publishEvent(new DharmasChangedEvent(userId));
     log.info("DharmasService.updateDharmas completed dharmasId={}", dharmasId);
     return dharmasMapper.toDTO(dharmas);
   }
@@ -93,23 +109,30 @@ public class DharmasService {
             .findByIdAndUserId(dharmasId, userId)
             .orElseThrow(() -> new IllegalArgumentException("Dharmas not found"));
 
-    // Check for active (non-completed) tasks before deleting
-    long activeTasksCount =
-        tasksRepository.findByDharmasId(dharmasId, Pageable.unpaged()).stream()
-            .filter(task -> task.getStatus() != TaskStatus.DONE)
-            .count();
-
-    if (activeTasksCount > 0) {
-      log.warn(
-          "DharmasService.deleteDharmas blocked dharmasId={} activeTasksCount={}",
-          dharmasId,
-          activeTasksCount);
+    // Indexed existence check on (dharma_id, status); no task is loaded
+    if (tasksRepository.existsByDharmasIdAndStatusNot(dharmasId, TaskStatus.DONE)) {
+      log.warn("DharmasService.deleteDharmas blocked dharmasId={} activeTasks=true", dharmasId);
       throw new IllegalStateException(
           "Cannot delete Dharmas with active tasks. Complete or move tasks first.");
     }
 
+    // DONE tasks go in bounded batches ahead of the RESTRICT foreign key. A task created meanwhile
+    // is not DONE, so it is kept and the foreign key still refuses the delete
+    int deletedTasks = 0;
+    int deleted;
+    do {
+      deleted =
+          tasksRepository.deleteByDharmasIdAndStatus(
+              dharmasId, TaskStatus.DONE.name(), deleteChunkSize);
+      deletedTasks += deleted;
+    } while (deleted == deleteChunkSize);
+
     repository.delete(dharmas);
-    log.info("DharmasService.deleteDharmas completed dharmasId={}", dharmasId);
+    eventPublisher.publishEvent(new DharmasChangedEvent(userId));
+    log.info(
+        "DharmasService.deleteDharmas completed dharmasId={} deletedTasks={}",
+        dharmasId,
+        deletedTasks);
   }
 
   @Transactional
@@ -121,19 +144,23 @@ public class DharmasService {
             .orElseThrow(() -> new IllegalArgumentException("Dharmas not found"));
 
     dharmas.setHidden(!dharmas.getHidden());
-
-    // TODO - Move to service to method HideAllTasks
-    // Update all tasks of the dharmas to inherit the hidden state
-    var tasks = tasksRepository.findByDharmasId(dharmasId, Pageable.unpaged());
-    tasks.forEach(
-        task -> {
-          task.setHidden(dharmas.getHidden());
-        });
-    tasksRepository.saveAll(tasks);
+    repository.save(dharmas);
+
+    // Tasks inherit the new state in this transaction, up to one bounded chunk; only what is left
+    // of a larger dharma goes to the background, see DharmaHiddenPropagator
+    int updatedTasks =
+        tasksRepository.updateHiddenByDharmasId(dharmasId, dharmas.getHidden(), hiddenChunkSize);
+    boolean remaining = updatedTasks == hiddenChunkSize;
+    if (remaining) {
+      eventPublisher.publishEvent(new DharmaHiddenChangedEvent(dharmasId));
+    }
+    eventPublisher.publishEvent(new DharmasChangedEvent(userId));
     log.info(
-        "DharmasService.toggleHidden completed dharmasId={} hidden={} tasksUpdated={}",
+        "DharmasService.toggleHidden completed dharmasId={} hidden={} updatedTasks={}"
+            + " remaining={}",
         dharmasId,
         dharmas.getHidden(),
-        tasks.getContent().size());
+        updatedTasks,
+        remaining);
   }
 }
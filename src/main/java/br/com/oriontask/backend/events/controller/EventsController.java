@@ -0,0 +1,26 @@
+package br.com.oriontask.backend.events.controller;
+
+import br.com.oriontask.backend.events.service.SseEmitterRegistry;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+public class EventsController {
+
+  private final SseEmitterRegistry emitterRegistry;
+
+  /** Stream of {@code task} events for the authenticated user's tasks. */
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter stream(Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return emitterRegistry.register(userId);
+  }
+}
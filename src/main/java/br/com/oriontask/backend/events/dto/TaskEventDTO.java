@@ -0,0 +1,8 @@
+package br.com.oriontask.backend.events.dto;
+
+import br.com.oriontask.backend.shared.enums.TaskEventType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import java.time.Instant;
+
+public record TaskEventDTO(
+    TaskEventType type, Long taskId, TaskStatus status, Instant occurredAt) {}
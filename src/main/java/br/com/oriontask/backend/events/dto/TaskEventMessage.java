@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.events.dto;
+
+import java.util.UUID;
+
+/** Pub/sub envelope; every node receives it and delivers to the user's local streams. */
+public record TaskEventMessage(UUID userId, TaskEventDTO event) {}
@@ -0,0 +1,134 @@
+package br.com.oriontask.backend.events.service;
+
+import br.com.oriontask.backend.events.dto.TaskEventDTO;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Open SSE streams of this node, by user. Streams are written from whichever thread delivers the
+ * event, so a failed write just drops that stream and the client reconnects.
+ */
+@Component
+@Slf4j
+public class SseEmitterRegistry {
+
+  private final Map<UUID, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+  private final Set<SseEmitter> pinging = ConcurrentHashMap.newKeySet();
+  private final VirtualThreadTaskExecutor heartbeatExecutor =
+      new VirtualThreadTaskExecutor("sse-heartbeat-");
+
+  @Value("${app.events.emitter-timeout-ms:1800000}")
+  private long emitterTimeoutMs;
+
+  @Value("${app.events.max-connections-per-user:5}")
+  private int maxConnectionsPerUser;
+
+  /** Beyond the per-user cap the oldest stream of the user is closed. */
+  public SseEmitter register(UUID userId) {
+    SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+    emitter.onCompletion(() -> remove(userId, emitter));
+    emitter.onTimeout(() -> remove(userId, emitter));
+    emitter.onError(error -> remove(userId, emitter));
+
+    List<SseEmitter> evicted = new ArrayList<>();
+    emitters.compute(
+        userId,
+        (id, current) -> {
+          List<SseEmitter> userEmitters = current == null ? new CopyOnWriteArrayList<>() : current;
+          while (userEmitters.size() >= maxConnectionsPerUser) {
+            evicted.add(userEmitters.remove(0));
+          }
+          userEmitters.add(emitter);
+          return userEmitters;
+        });
+    evicted.forEach(SseEmitter::complete);
+
+    // Flushes the response headers through proxies before the first real event
+    send(userId, emitter, SseEmitter.event().comment("connected"));
+    log.debug("SseEmitterRegistry.register completed userId={} evicted={}", userId, evicted.size());
+    return emitter;
+  }
+
+  public boolean hasEmitters(UUID userId) {
+    return emitters.containsKey(userId);
+  }
+
+  public int dispatch(UUID userId, TaskEventDTO event) {
+    List<SseEmitter> userEmitters = emitters.get(userId);
+    if (userEmitters == null) {
+      return 0;
+    }
+    int delivered = 0;
+    for (SseEmitter emitter : userEmitters) {
+      // A builder renders once, so every stream needs its own
+      SseEmitter.SseEventBuilder message =
+          SseEmitter.event().name("task").data(event, MediaType.APPLICATION_JSON);
+      if (send(userId, emitter, message)) {
+        delivered++;
+      }
+    }
+    return delivered;
+  }
+
+  /**
+   * Detects streams whose client went away without closing them. Each ping is written on its own
+   * virtual thread so a stalled client cannot hold up the shared scheduler, and a stream whose
+   * previous ping is still blocked is not pinged again.
+   */
+  @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:25000}")
+  public void heartbeat() {
+    emitters.forEach(
+        (userId, userEmitters) ->
+            userEmitters.forEach(
+                emitter -> {
+                  if (pinging.add(emitter)) {
+                    heartbeatExecutor.execute(() -> ping(userId, emitter));
+                  }
+                }));
+  }
+
+  public int connectionCount() {
+    return emitters.values().stream().mapToInt(List::size).sum();
+  }
+
+  private void ping(UUID userId, SseEmitter emitter) {
+    try {
+      send(userId, emitter, SseEmitter.event().comment("ping"));
+    } finally {
+      pinging.remove(emitter);
+    }
+  }
+
+  private boolean send(UUID userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+    try {
+      emitter.send(event);
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      log.debug("SseEmitterRegistry.send dropped stream userId={} reason={}", userId, e.toString());
+      remove(userId, emitter);
+      return false;
+    }
+  }
+
+  private void remove(UUID userId, SseEmitter emitter) {
+    emitters.computeIfPresent(
+        userId,
+        (id, userEmitters) -> {
+          userEmitters.remove(emitter);
+          return userEmitters.isEmpty() ? null : userEmitters;
+        });
+  }
+}
@@ -0,0 +1,55 @@
+package br.com.oriontask.backend.events.service;
+
+import br.com.oriontask.backend.events.dto.TaskEventDTO;
+import br.com.oriontask.backend.events.dto.TaskEventMessage;
+import br.com.oriontask.backend.tasks.event.TaskChangedEvent;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Sends committed task changes to every node through Redis pub/sub. With pub/sub disabled, or
+ * Redis unreachable, events still reach the streams open on this node.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventRelay {
+
+  private final StringRedisTemplate redisTemplate;
+  private final JsonMapper jsonMapper;
+  private final SseEmitterRegistry emitterRegistry;
+
+  @Value("${app.redis.pubsub.enabled:true}")
+  private boolean pubSubEnabled;
+
+  @Value("${app.events.channel:oriontask:task-events}")
+  private String channel;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent change) {
+    TaskEventDTO event =
+        new TaskEventDTO(change.type(), change.taskId(), change.status(), Instant.now());
+    if (!pubSubEnabled) {
+      emitterRegistry.dispatch(change.userId(), event);
+      return;
+    }
+
+    try {
+      redisTemplate.convertAndSend(
+          channel, jsonMapper.writeValueAsString(new TaskEventMessage(change.userId(), event)));
+    } catch (DataAccessException e) {
+      log.warn(
+          "TaskEventRelay.onTaskChanged publish failed, delivering locally taskId={}: {}",
+          change.taskId(),
+          e.getMessage());
+      emitterRegistry.dispatch(change.userId(), event);
+    }
+  }
+}
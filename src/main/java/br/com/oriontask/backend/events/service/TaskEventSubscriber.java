@@ -0,0 +1,34 @@
+package br.com.oriontask.backend.events.service;
+
+import br.com.oriontask.backend.events.dto.TaskEventMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/** The node's single subscriber on the task events channel, fanning out to local streams. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventSubscriber implements MessageListener {
+
+  private final SseEmitterRegistry emitterRegistry;
+  private final JsonMapper jsonMapper;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    TaskEventMessage event;
+    try {
+      event = jsonMapper.readValue(message.getBody(), TaskEventMessage.class);
+    } catch (JacksonException e) {
+      log.warn("TaskEventSubscriber.onMessage ignored malformed event: {}", e.getOriginalMessage());
+      return;
+    }
+    if (emitterRegistry.hasEmitters(event.userId())) {
+      emitterRegistry.dispatch(event.userId(), event.event());
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package br.com.oriontask.backend.jobs.dto;
+
+import java.time.Instant;
+
+public record JobStatusDTO(
+    String job,
+    int shard,
+    int shardCount,
+    String owner,
+    Instant lastRunAt,
+    Long durationMs,
+    String outcome) {}
@@ -0,0 +1,27 @@
+package br.com.oriontask.backend.jobs.endpoint;
+
+import br.com.oriontask.backend.jobs.dto.JobStatusDTO;
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operator view of the clustered jobs (nodes, lease owners, shard layout, outcomes). Served as the
+ * {@code jobs} actuator endpoint, which is not exposed over HTTP unless it is added to {@code
+ * management.endpoints.web.exposure.include}, ideally on a separate management port.
+ */
+@Component
+@Endpoint(id = "jobs")
+@RequiredArgsConstructor
+public class JobsEndpoint {
+
+  private final ClusterJobRunner jobRunner;
+
+  @ReadOperation
+  public List<JobStatusDTO> jobs() {
+    return jobRunner.statuses();
+  }
+}
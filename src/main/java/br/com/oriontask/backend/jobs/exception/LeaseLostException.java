@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.jobs.exception;
+
+public class LeaseLostException extends IllegalStateException {
+  public LeaseLostException(String leaseKey) {
+    super("Lease " + leaseKey + " is held by another node");
+  }
+}
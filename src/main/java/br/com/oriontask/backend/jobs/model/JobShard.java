@@ -0,0 +1,29 @@
+package br.com.oriontask.backend.jobs.model;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * One of {@code count} contiguous, inclusive slices of the user-id space. Bounds compare the way
+ * Postgres orders uuid values, so a shard maps to a range scan on any index led by user_id.
+ */
+public record JobShard(int index, int count, UUID fromUserId, UUID toUserId) {
+
+  public static final JobShard ALL = of(0, 1);
+
+  private static final BigInteger SPACE = BigInteger.ONE.shiftLeft(64);
+
+  public static JobShard of(int index, int count) {
+    if (count < 1 || index < 0 || index >= count) {
+      throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+    }
+    UUID from = new UUID(boundary(index, count), 0L);
+    UUID to =
+        index == count - 1 ? new UUID(-1L, -1L) : new UUID(boundary(index + 1, count) - 1, -1L);
+    return new JobShard(index, count, from, to);
+  }
+
+  private static long boundary(int index, int count) {
+    return SPACE.multiply(BigInteger.valueOf(index)).divide(BigInteger.valueOf(count)).longValue();
+  }
+}
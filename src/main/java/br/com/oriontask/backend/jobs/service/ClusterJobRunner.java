@@ -0,0 +1,217 @@
+package br.com.oriontask.backend.jobs.service;
+
+import br.com.oriontask.backend.jobs.dto.JobStatusDTO;
+import br.com.oriontask.backend.jobs.exception.LeaseLostException;
+import br.com.oriontask.backend.jobs.model.JobShard;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs scheduled jobs once per cluster instead of once per replica. Each job is split into
+ * user-id shards and a node only runs the shards it leases in Redis. A lease is kept after a
+ * successful run and simply expires, so a shard runs at most once per lease period no matter how
+ * many replicas fire the schedule; a failed run gives its lease back so another node can retry.
+ * While a shard runs its lease is renewed, and work that checks {@link #checkLease()} between
+ * chunks stops once the lease was lost to another node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobRunner {
+
+  private static final String LEASE_PREFIX = "job_lease:";
+  private static final String STATUS_PREFIX = "job_status:";
+  private static final RedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) else return 0 end",
+          Long.class);
+  private static final RedisScript<Long> RENEW_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+  private final Map<String, Integer> jobs = new ConcurrentSkipListMap<>();
+  private final ThreadLocal<Lease> currentLease = new ThreadLocal<>();
+
+  @Value("${app.jobs.node-name:local}")
+  private String nodeName;
+
+  public String owner() {
+    return nodeName + ":" + instanceId;
+  }
+
+  public int runExclusive(String job, Duration lease, Runnable work) {
+    return runSharded(job, 1, lease, shard -> work.run());
+  }
+
+  /** Returns how many shards this node ran. Nodes start at different shards to spread the work. */
+  public int runSharded(String job, int shardCount, Duration lease, Consumer<JobShard> work) {
+    jobs.put(job, shardCount);
+    int start = Math.floorMod(owner().hashCode(), shardCount);
+    int ran = 0;
+    for (int i = 0; i < shardCount; i++) {
+      JobShard shard = JobShard.of((start + i) % shardCount, shardCount);
+      if (acquire(job, shard, lease)) {
+        runShard(job, shard, lease, work);
+        ran++;
+      }
+    }
+    return ran;
+  }
+
+  /**
+   * Fencing check for long runs: throws {@link LeaseLostException} once the lease of the shard
+   * running on this thread has been lost, so no further chunk is written next to another node.
+   */
+  public void checkLease() {
+    Lease lease = currentLease.get();
+    if (lease != null && lease.lost) {
+      throw new LeaseLostException(lease.key);
+    }
+  }
+
+  /** Jobs this node has scheduled so far, with the last run of each shard across the cluster. */
+  public List<JobStatusDTO> statuses() {
+    List<JobStatusDTO> statuses = new ArrayList<>();
+    jobs.forEach(
+        (job, shardCount) -> {
+          for (int shard = 0; shard < shardCount; shard++) {
+            Map<Object, Object> status = redisTemplate.opsForHash().entries(statusKey(job, shard));
+            statuses.add(
+                new JobStatusDTO(
+                    job,
+                    shard,
+                    shardCount,
+                    (String) status.get("owner"),
+                    status.containsKey("lastRunAt")
+                        ? Instant.ofEpochMilli(Long.parseLong((String) status.get("lastRunAt")))
+                        : null,
+                    status.containsKey("durationMs")
+                        ? Long.valueOf((String) status.get("durationMs"))
+                        : null,
+                    (String) status.get("outcome")));
+          }
+        });
+    return statuses;
+  }
+
+  private boolean acquire(String job, JobShard shard, Duration lease) {
+    try {
+      return Boolean.TRUE.equals(
+          redisTemplate.opsForValue().setIfAbsent(leaseKey(job, shard), owner(), lease));
+    } catch (DataAccessException ex) {
+      log.warn("Unable to lease job={} shard={}; skipping it", job, shard.index(), ex);
+      return false;
+    }
+  }
+
+  private void runShard(String job, JobShard shard, Duration leaseTtl, Consumer<JobShard> work) {
+    long startedAt = System.currentTimeMillis();
+    String outcome = "SUCCEEDED";
+    Lease lease = new Lease(leaseKey(job, shard));
+    Thread watchdog = Thread.startVirtualThread(() -> renewWhileRunning(lease, leaseTtl));
+    currentLease.set(lease);
+    try {
+      work.accept(shard);
+    } catch (LeaseLostException ex) {
+      outcome = "LEASE_LOST";
+      log.error("Job={} shard={} stopped after losing its lease", job, shard.index());
+    } catch (RuntimeException ex) {
+      outcome = "FAILED";
+      log.error("Job={} shard={} failed", job, shard.index(), ex);
+      release(job, shard);
+    } finally {
+      currentLease.remove();
+      watchdog.interrupt();
+      record(job, shard, startedAt, System.currentTimeMillis() - startedAt, outcome);
+    }
+  }
+
+  /** Extends the lease every third of its TTL until the run ends or the lease is found lost. */
+  private void renewWhileRunning(Lease lease, Duration leaseTtl) {
+    Duration interval = leaseTtl.dividedBy(3);
+    while (true) {
+      try {
+        Thread.sleep(interval);
+      } catch (InterruptedException ex) {
+        return;
+      }
+      try {
+        Long renewed =
+            redisTemplate.execute(
+                RENEW_SCRIPT,
+                List.of(lease.key),
+                owner(),
+                String.valueOf(leaseTtl.toMillis()));
+        if (!Long.valueOf(1L).equals(renewed)) {
+          lease.lost = true;
+          log.warn("Lease {} was lost by owner={}", lease.key, owner());
+          return;
+        }
+      } catch (DataAccessException ex) {
+        log.warn("Unable to renew lease {}; retrying", lease.key, ex);
+      }
+    }
+  }
+
+  private void release(String job, JobShard shard) {
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(job, shard)), owner());
+    } catch (DataAccessException ex) {
+      log.warn("Unable to release lease of job={} shard={}", job, shard.index(), ex);
+    }
+  }
+
+  private void record(
+      String job, JobShard shard, long startedAt, long durationMs, String outcome) {
+    try {
+      redisTemplate
+          .opsForHash()
+          .putAll(
+              statusKey(job, shard.index()),
+              Map.of(
+                  "owner", owner(),
+                  "lastRunAt", String.valueOf(startedAt),
+                  "durationMs", String.valueOf(durationMs),
+                  "outcome", outcome));
+    } catch (DataAccessException ex) {
+      log.warn("Unable to record status of job={} shard={}", job, shard.index(), ex);
+    }
+  }
+
+  private static final class Lease {
+    private final String key;
+    private volatile boolean lost;
+
+    private Lease(String key) {
+      this.key = key;
+    }
+  }
+
+  private static String leaseKey(String job, JobShard shard) {
+    return LEASE_PREFIX + job + ":" + shard.index() + "/" + shard.count();
+  }
+
+  private static String statusKey(String job, int shard) {
+    return STATUS_PREFIX + job + ":" + shard;
+  }
+}
@@ -0,0 +1,12 @@
+package br.com.oriontask.backend.karma.dto;
+
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import java.time.LocalDate;
+import java.util.Map;
+
+/** Completed tasks per karma type for today and for the week (Monday to today). */
+public record ActivityLogDTO(
+    LocalDate today,
+    Map<KarmaType, Integer> todayCounts,
+    LocalDate weekStart,
+    Map<KarmaType, Integer> weekCounts) {}
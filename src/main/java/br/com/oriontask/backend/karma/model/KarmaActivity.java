@@ -0,0 +1,27 @@
+package br.com.oriontask.backend.karma.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "tab_karma_activity")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class KarmaActivity {
+
+  @EmbeddedId private KarmaActivityId id;
+
+  @Builder.Default
+  @Column(nullable = false)
+  private Integer completedCount = 0;
+}
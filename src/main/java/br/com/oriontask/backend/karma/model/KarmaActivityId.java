@@ -0,0 +1,30 @@
+package br.com.oriontask.backend.karma.model;
+
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class KarmaActivityId implements Serializable {
+
+  @Column(name = "user_id")
+  private UUID userId;
+
+  private LocalDate activityDate;
+
+  @Enumerated(EnumType.STRING)
+  private KarmaType karmaType;
+}
@@ -0,0 +1,44 @@
+package br.com.oriontask.backend.karma.repository;
+
+import br.com.oriontask.backend.karma.model.KarmaActivity;
+import br.com.oriontask.backend.karma.model.KarmaActivityId;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface KarmaActivityRepository extends JpaRepository<KarmaActivity, KarmaActivityId> {
+
+  @Modifying
+  @Query(
+      """
+      UPDATE KarmaActivity a
+      SET a.completedCount = a.completedCount + 1
+      WHERE a.id.userId = :userId
+        AND a.id.activityDate = :activityDate
+        AND a.id.karmaType = :karmaType
+      """)
+  int increment(UUID userId, LocalDate activityDate, KarmaType karmaType);
+
+  /** Creates the day's row with its first completion; 0 when another transaction got there. */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO tab_karma_activity (user_id, activity_date, karma_type, completed_count)
+          VALUES (:userId, :activityDate, :karmaType, 1)
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertFirst(UUID userId, LocalDate activityDate, String karmaType);
+
+  @Query(
+      """
+      SELECT a FROM KarmaActivity a
+      WHERE a.id.userId = :userId AND a.id.activityDate BETWEEN :from AND :to
+      """)
+  List<KarmaActivity> findByUserIdAndDateBetween(UUID userId, LocalDate from, LocalDate to);
+}
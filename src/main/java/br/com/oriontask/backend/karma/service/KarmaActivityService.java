@@ -0,0 +1,78 @@
+package br.com.oriontask.backend.karma.service;
+
+import br.com.oriontask.backend.karma.dto.ActivityLogDTO;
+import br.com.oriontask.backend.karma.model.KarmaActivity;
+import br.com.oriontask.backend.karma.repository.KarmaActivityRepository;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps one counter row per user, day and karma type. Completions bump the row in place, and the
+ * activity log reads at most a week of rows instead of aggregating tasks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KarmaActivityService implements KarmaActivityRecorder {
+
+  private final KarmaActivityRepository repository;
+
+  @Value("${app.karma.zone-id:America/Sao_Paulo}")
+  private ZoneId zoneId;
+
+  @Override
+  @Transactional
+  public void recordCompletion(UUID userId, KarmaType karmaType) {
+    if (karmaType == null) {
+      return;
+    }
+    LocalDate today = LocalDate.now(zoneId);
+    if (repository.increment(userId, today, karmaType) > 0) {
+      return;
+    }
+    // First completion of the day; a concurrent first one makes the insert a no-op
+    if (repository.insertFirst(userId, today, karmaType.name()) == 0) {
+      repository.increment(userId, today, karmaType);
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public ActivityLogDTO getActivityLog(UUID userId) {
+    LocalDate today = LocalDate.now(zoneId);
+    LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    List<KarmaActivity> rows = repository.findByUserIdAndDateBetween(userId, weekStart, today);
+
+    Map<KarmaType, Integer> todayCounts = emptyCounts();
+    Map<KarmaType, Integer> weekCounts = emptyCounts();
+    for (KarmaActivity row : rows) {
+      KarmaType karmaType = row.getId().getKarmaType();
+      weekCounts.merge(karmaType, row.getCompletedCount(), Integer::sum);
+      if (row.getId().getActivityDate().equals(today)) {
+        todayCounts.merge(karmaType, row.getCompletedCount(), Integer::sum);
+      }
+    }
+    log.debug("KarmaActivityService.getActivityLog completed rows={}", rows.size());
+    return new ActivityLogDTO(today, todayCounts, weekStart, weekCounts);
+  }
+
+  private static Map<KarmaType, Integer> emptyCounts() {
+    Map<KarmaType, Integer> counts = new EnumMap<>(KarmaType.class);
+    for (KarmaType karmaType : KarmaType.values()) {
+      counts.put(karmaType, 0);
+    }
+    return counts;
+  }
+}
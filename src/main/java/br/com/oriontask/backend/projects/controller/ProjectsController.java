@@ -0,0 +1,73 @@
+package br.com.oriontask.backend.projects.controller;
+
+import br.com.oriontask.backend.projects.dto.MilestoneDTO;
+import br.com.oriontask.backend.projects.dto.NewMilestoneDTO;
+import br.com.oriontask.backend.projects.dto.NewProjectDTO;
+import br.com.oriontask.backend.projects.dto.ProjectDTO;
+import br.com.oriontask.backend.projects.dto.ProjectDetailsDTO;
+import br.com.oriontask.backend.projects.service.ProjectsService;
+import br.com.oriontask.backend.shared.enums.ProjectStatus;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/projects")
+@RequiredArgsConstructor
+public class ProjectsController {
+
+  private final ProjectsService projectsService;
+
+  @PostMapping
+  public ResponseEntity<ProjectDTO> createProject(
+      @RequestBody @Valid NewProjectDTO createDTO, Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(projectsService.create(createDTO, userId));
+  }
+
+  @GetMapping
+  public ResponseEntity<List<ProjectDTO>> findAll(
+      @RequestParam(required = false) Long dharmasId,
+      @RequestParam(required = false, defaultValue = "ACTIVE") ProjectStatus status,
+      Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(projectsService.listProjects(userId, dharmasId, status));
+  }
+
+  @GetMapping("/{projectId}")
+  public ResponseEntity<ProjectDetailsDTO> findById(
+      @PathVariable Long projectId, Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(projectsService.getProject(projectId, userId));
+  }
+
+  @PatchMapping("/{projectId}/archive")
+  public ResponseEntity<ProjectDTO> archive(
+      @PathVariable Long projectId, Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(projectsService.archive(projectId, userId));
+  }
+
+  @PostMapping("/{projectId}/milestones")
+  public ResponseEntity<MilestoneDTO> addMilestone(
+      @PathVariable Long projectId,
+      @RequestBody @Valid NewMilestoneDTO createDTO,
+      Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(projectsService.addMilestone(projectId, createDTO, userId));
+  }
+}
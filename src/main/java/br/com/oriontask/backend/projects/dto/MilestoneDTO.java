@@ -0,0 +1,11 @@
+package br.com.oriontask.backend.projects.dto;
+
+import br.com.oriontask.backend.shared.enums.MilestoneStatus;
+
+public record MilestoneDTO(
+    Long id,
+    String title,
+    MilestoneStatus status,
+    Integer position,
+    Integer totalTasks,
+    Integer completedTasks) {}
@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.projects.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record NewMilestoneDTO(@NotBlank @Size(max = 60) String title) {}
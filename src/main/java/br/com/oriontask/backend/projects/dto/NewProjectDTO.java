@@ -0,0 +1,10 @@
+package br.com.oriontask.backend.projects.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record NewProjectDTO(
+    @NotNull Long dharmasId,
+    @NotBlank @Size(max = 60) String title,
+    @Size(max = 200) String description) {}
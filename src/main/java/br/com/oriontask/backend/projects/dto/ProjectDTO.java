@@ -0,0 +1,15 @@
+package br.com.oriontask.backend.projects.dto;
+
+import br.com.oriontask.backend.shared.enums.ProjectStatus;
+import java.sql.Timestamp;
+
+public record ProjectDTO(
+    Long id,
+    Long dharmasId,
+    String title,
+    String description,
+    ProjectStatus status,
+    Integer totalTasks,
+    Integer completedTasks,
+    Timestamp createdAt,
+    Timestamp updatedAt) {}
@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.projects.dto;
+
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import java.util.List;
+
+public record ProjectDetailsDTO(
+    ProjectDTO project, List<MilestoneDTO> milestones, List<TaskDTO> tasks) {}
@@ -0,0 +1,38 @@
+package br.com.oriontask.backend.projects.mapper;
+
+import br.com.oriontask.backend.projects.dto.MilestoneDTO;
+import br.com.oriontask.backend.projects.dto.NewMilestoneDTO;
+import br.com.oriontask.backend.projects.dto.NewProjectDTO;
+import br.com.oriontask.backend.projects.dto.ProjectDTO;
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(
+    unmappedTargetPolicy = ReportingPolicy.IGNORE,
+    componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ProjectsMapper {
+  @Mapping(target = "dharmas", ignore = true)
+  @Mapping(target = "status", ignore = true)
+  @Mapping(target = "totalTasks", ignore = true)
+  @Mapping(target = "completedTasks", ignore = true)
+  Projects toEntity(NewProjectDTO createDTO);
+
+  @Mapping(source = "dharmas.id", target = "dharmasId")
+  ProjectDTO toDTO(Projects project);
+
+  List<ProjectDTO> toDTO(List<Projects> projects);
+
+  @Mapping(target = "status", ignore = true)
+  @Mapping(target = "totalTasks", ignore = true)
+  @Mapping(target = "completedTasks", ignore = true)
+  Milestones toEntity(NewMilestoneDTO createDTO);
+
+  MilestoneDTO toDTO(Milestones milestone);
+
+  List<MilestoneDTO> toMilestoneDTOs(List<Milestones> milestones);
+}
@@ -0,0 +1,66 @@
+package br.com.oriontask.backend.projects.model;
+
+import br.com.oriontask.backend.shared.enums.MilestoneStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Size;
+import java.sql.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+@Entity
+@Table(name = "tab_milestones")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class Milestones {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tab_milestones_id_seq")
+  @SequenceGenerator(
+      name = "tab_milestones_id_seq", sequenceName = "tab_milestones_id_seq", allocationSize = 50)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "project_id", nullable = false)
+  private Projects project;
+
+  @Size(max = 60, message = "The title must be at most 60 characters")
+  private String title;
+
+  @Builder.Default
+  @Enumerated(EnumType.STRING)
+  private MilestoneStatus status = MilestoneStatus.OPEN;
+
+  private Integer position;
+
+  /** Same rule as {@link Projects#getTotalTasks()}: only moved by the progress update. */
+  @Builder.Default
+  @Column(updatable = false)
+  private Integer totalTasks = 0;
+
+  @Builder.Default
+  @Column(updatable = false)
+  private Integer completedTasks = 0;
+
+  @CreationTimestamp private Timestamp createdAt;
+
+  @UpdateTimestamp private Timestamp updatedAt;
+}
@@ -0,0 +1,77 @@
+package br.com.oriontask.backend.projects.model;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.shared.enums.ProjectStatus;
+import br.com.oriontask.backend.users.model.Users;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Size;
+import java.sql.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.validator.constraints.Length;
+
+@Entity
+@Table(name = "tab_projects")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class Projects {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tab_projects_id_seq")
+  @SequenceGenerator(
+      name = "tab_projects_id_seq", sequenceName = "tab_projects_id_seq", allocationSize = 50)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private Users user;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "dharma_id", nullable = false)
+  private Dharmas dharmas;
+
+  @Size(max = 60, message = "The title must be at most 60 characters")
+  private String title;
+
+  @Length(max = 200, message = "The description must be at most 200 characters")
+  private String description;
+
+  @Builder.Default
+  @Enumerated(EnumType.STRING)
+  private ProjectStatus status = ProjectStatus.ACTIVE;
+
+  /**
+   * Only moved by {@code ProjectsRepository.adjustProgress}; not updatable here, so saving a
+   * loaded project never writes back a stale count.
+   */
+  @Builder.Default
+  @Column(updatable = false)
+  private Integer totalTasks = 0;
+
+  @Builder.Default
+  @Column(updatable = false)
+  private Integer completedTasks = 0;
+
+  @CreationTimestamp private Timestamp createdAt;
+
+  @UpdateTimestamp private Timestamp updatedAt;
+}
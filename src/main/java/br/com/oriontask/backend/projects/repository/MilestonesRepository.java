@@ -0,0 +1,26 @@
+package br.com.oriontask.backend.projects.repository;
+
+import br.com.oriontask.backend.projects.model.Milestones;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface MilestonesRepository extends JpaRepository<Milestones, Long> {
+  Optional<Milestones> findByIdAndProjectId(Long id, Long projectId);
+
+  List<Milestones> findByProjectIdOrderByPosition(Long projectId);
+
+  long countByProjectId(Long projectId);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE Milestones m
+      SET m.totalTasks = m.totalTasks + :totalDelta,
+          m.completedTasks = m.completedTasks + :completedDelta
+      WHERE m.id = :milestoneId
+      """)
+  int adjustProgress(Long milestoneId, int totalDelta, int completedDelta);
+}
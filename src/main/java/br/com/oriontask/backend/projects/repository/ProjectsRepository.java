@@ -0,0 +1,30 @@
+package br.com.oriontask.backend.projects.repository;
+
+import br.com.oriontask.backend.projects.model.Projects;
+import br.com.oriontask.backend.shared.enums.ProjectStatus;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ProjectsRepository extends JpaRepository<Projects, Long> {
+  Optional<Projects> findByIdAndUserId(Long id, UUID userId);
+
+  List<Projects> findByUserIdAndStatusOrderByCreatedAtDesc(UUID userId, ProjectStatus status);
+
+  List<Projects> findByUserIdAndDharmasIdAndStatusOrderByCreatedAtDesc(
+      UUID userId, Long dharmasId, ProjectStatus status);
+
+  /** Relative update, so concurrent task transitions on the same project never lose a count. */
+  @Modifying
+  @Query(
+      """
+      UPDATE Projects p
+      SET p.totalTasks = p.totalTasks + :totalDelta,
+          p.completedTasks = p.completedTasks + :completedDelta
+      WHERE p.id = :projectId
+      """)
+  int adjustProgress(Long projectId, int totalDelta, int completedDelta);
+}
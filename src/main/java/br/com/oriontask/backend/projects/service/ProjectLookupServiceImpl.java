@@ -0,0 +1,41 @@
+package br.com.oriontask.backend.projects.service;
+
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
+import br.com.oriontask.backend.projects.repository.MilestonesRepository;
+import br.com.oriontask.backend.projects.repository.ProjectsRepository;
+import br.com.oriontask.backend.shared.enums.ProjectStatus;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectLookupServiceImpl implements ProjectLookupService {
+
+  private final ProjectsRepository repository;
+  private final MilestonesRepository milestonesRepository;
+
+  @Override
+  public Projects getAssignableProject(Long projectId, Long dharmasId, UUID userId) {
+    Projects project =
+        repository
+            .findByIdAndUserId(projectId, userId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+    if (!project.getDharmas().getId().equals(dharmasId)) {
+      throw new IllegalArgumentException("Project belongs to another Dharmas");
+    }
+    if (project.getStatus() == ProjectStatus.ARCHIVED) {
+      throw new IllegalArgumentException("Project is archived");
+    }
+    return project;
+  }
+
+  @Override
+  public Milestones getRequiredMilestone(Long milestoneId, Long projectId) {
+    return milestonesRepository
+        .findByIdAndProjectId(milestoneId, projectId)
+        .orElseThrow(() -> new IllegalArgumentException("Milestone not found"));
+  }
+}
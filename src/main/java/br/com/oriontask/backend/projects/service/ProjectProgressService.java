@@ -0,0 +1,31 @@
+package br.com.oriontask.backend.projects.service;
+
+import br.com.oriontask.backend.projects.repository.MilestonesRepository;
+import br.com.oriontask.backend.projects.repository.ProjectsRepository;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the task counters of projects and milestones in step with the task transitions. The
+ * updates are relative and run in the transition's own transaction, after the task row is locked,
+ * so a counter can neither drift from the tasks nor lose a concurrent change.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectProgressService implements ProjectProgressRecorder {
+
+  private final ProjectsRepository repository;
+  private final MilestonesRepository milestonesRepository;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void adjustProgress(Long projectId, Long milestoneId, int totalDelta, int completedDelta) {
+    repository.adjustProgress(projectId, totalDelta, completedDelta);
+    if (milestoneId != null) {
+      milestonesRepository.adjustProgress(milestoneId, totalDelta, completedDelta);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package br.com.oriontask.backend.projects.service;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.projects.dto.MilestoneDTO;
+import br.com.oriontask.backend.projects.dto.NewMilestoneDTO;
+import br.com.oriontask.backend.projects.dto.NewProjectDTO;
+import br.com.oriontask.backend.projects.dto.ProjectDTO;
+import br.com.oriontask.backend.projects.dto.ProjectDetailsDTO;
+import br.com.oriontask.backend.projects.mapper.ProjectsMapper;
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
+import br.com.oriontask.backend.projects.repository.MilestonesRepository;
+import br.com.oriontask.backend.projects.repository.ProjectsRepository;
+import br.com.oriontask.backend.shared.enums.ProjectStatus;
+import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectsService {
+
+  private final ProjectsRepository repository;
+  private final MilestonesRepository milestonesRepository;
+  private final TasksRepository tasksRepository;
+  private final DharmaLookupService dharmaLookup;
+
+  private final ProjectsMapper projectsMapper;
+
+  @Transactional
+  public ProjectDTO create(NewProjectDTO createDTO, UUID userId) {
+    log.info("ProjectsService.create requested dharmasId={}", createDTO.dharmasId());
+    // The Dharmas lookup is scoped to the user, so a project never spans two owners
+    Dharmas dharmas = dharmaLookup.getRequiredDharma(createDTO.dharmasId(), userId);
+
+    Projects project = projectsMapper.toEntity(createDTO);
+    project.setDharmas(dharmas);
+    project.setUser(dharmas.getUser());
+
+    project = repository.save(project);
+    log.info("ProjectsService.create completed projectId={}", project.getId());
+    return projectsMapper.toDTO(project);
+  }
+
+  /** One indexed read; progress comes from the stored counters, not from counting tasks. */
+  @Transactional(readOnly = true)
+  public List<ProjectDTO> listProjects(UUID userId, Long dharmasId, ProjectStatus status) {
+    log.debug(
+        "ProjectsService.listProjects requested userId={} dharmasId={} status={}",
+        userId,
+        dharmasId,
+        status);
+    List<Projects> projects =
+        dharmasId == null
+            ? repository.findByUserIdAndStatusOrderByCreatedAtDesc(userId, status)
+            : repository.findByUserIdAndDharmasIdAndStatusOrderByCreatedAtDesc(
+                userId, dharmasId, status);
+
+    List<ProjectDTO> result = projectsMapper.toDTO(projects);
+    log.debug(
+        "ProjectsService.listProjects completed userId={} returned={}", userId, result.size());
+    return result;
+  }
+
+  @Transactional(readOnly = true)
+  public ProjectDetailsDTO getProject(Long projectId, UUID userId) {
+    Projects project = getProjectById(projectId, userId);
+    List<MilestoneDTO> milestones =
+        projectsMapper.toMilestoneDTOs(
+            milestonesRepository.findByProjectIdOrderByPosition(projectId));
+    List<TaskDTO> tasks = tasksRepository.findDTOsByProjectIdAndUserId(projectId, userId);
+    return new ProjectDetailsDTO(projectsMapper.toDTO(project), milestones, tasks);
+  }
+
+  @Transactional
+  public ProjectDTO archive(Long projectId, UUID userId) {
+    log.info("ProjectsService.archive requested projectId={}", projectId);
+    Projects project = getProjectById(projectId, userId);
+
+    project.setStatus(ProjectStatus.ARCHIVED);
+
+    project = repository.save(project);
+    log.info("ProjectsService.archive completed projectId={}", projectId);
+    return projectsMapper.toDTO(project);
+  }
+
+  @Transactional
+  public MilestoneDTO addMilestone(Long projectId, NewMilestoneDTO createDTO, UUID userId) {
+    log.info("ProjectsService.addMilestone requested projectId={}", projectId);
+    Projects project = getProjectById(projectId, userId);
+    if (project.getStatus() == ProjectStatus.ARCHIVED) {
+      throw new IllegalArgumentException("Project is archived");
+    }
+
+    Milestones milestone = projectsMapper.toEntity(createDTO);
+    milestone.setProject(project);
+    milestone.setPosition((int) milestonesRepository.countByProjectId(projectId));
+
+    milestone = milestonesRepository.save(milestone);
+    log.info(
+        "ProjectsService.addMilestone completed projectId={} milestoneId={}",
+        projectId,
+        milestone.getId());
+    return projectsMapper.toDTO(milestone);
+  }
+
+  private Projects getProjectById(Long projectId, UUID userId) {
+    return repository
+        .findByIdAndUserId(projectId, userId)
+        .orElseThrow(
+            () -> {
+              log.warn("ProjectsService.getProjectById project not found projectId={}", projectId);
+              return new IllegalArgumentException("Project not found");
+            });
+  }
+}
@@ -4,6 +4,7 @@ import br.com.oriontask.backend.auth.service.TokenService;
 import br.com.oriontask.backend.refreshtoken.models.RefreshToken;
 import br.com.oriontask.backend.refreshtoken.repository.RefreshTokenRepository;
 import br.com.oriontask.backend.refreshtoken.utils.HashUtils;
+import br.com.oriontask.backend.shared.service.RevocationEpochService;
 import br.com.oriontask.backend.users.model.Users;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import java.sql.Timestamp;
@@ -20,6 +21,7 @@ public class RefreshTokenService {
 
   private final TokenService tokenService;
   private final RefreshTokenRepository refreshTokenRepository;
+  private final RevocationEpochService revocationEpochs;
 
   public String createRefreshToken(Users user) {
     String rawRefreshToken = tokenService.generateRefreshToken(user);
@@ -53,6 +55,10 @@ public class RefreshTokenService {
       UUID userId = UUID.fromString(decodedJWT.getSubject());
       String refreshHash = HashUtils.sha256(rawRefreshToken);
 
+      if (revocationEpochs.isRevoked(userId, decodedJWT.getIssuedAt())) {
+        throw new IllegalArgumentException("Refresh token revoked for user: " + userId);
+      }
+
       RefreshToken dbToken =
           refreshTokenRepository
               .findByUserId(userId)
@@ -0,0 +1,30 @@
+package br.com.oriontask.backend.shared.cache;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/** Applies evictions announced by any node, this one included, to the local cache tier. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationSubscriber implements MessageListener {
+
+  static final String SEPARATOR = "|";
+
+  private final TwoTierCacheManager cacheManager;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(SEPARATOR);
+    if (separator <= 0) {
+      log.warn("CacheInvalidationSubscriber.onMessage ignored malformed message: {}", body);
+      return;
+    }
+    cacheManager.evictLocally(body.substring(0, separator), body.substring(separator + 1));
+  }
+}
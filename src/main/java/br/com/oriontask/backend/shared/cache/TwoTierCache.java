@@ -0,0 +1,340 @@
+package br.com.oriontask.backend.shared.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A size-bounded local tier in front of a Redis tier shared by every node. Reads fall through
+ * local, then Redis, then the loader; evictions clear both tiers and are broadcast so other nodes
+ * drop their local copy. When Redis fails the cache degrades to local only and the TTL bounds
+ * staleness.
+ *
+ * <p>A loader may read the database before a writer commits and finish after the writer's
+ * after-commit eviction. Both tiers are fenced against that: every eviction bumps a generation
+ * (per key in Redis, per stripe locally) and a loaded value is only stored if the generation it
+ * saw before loading is still current. Loads run outside the Caffeine compute, so concurrent
+ * misses on one key may each load, but never block other keys on Redis or the database.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+  static final String KEY_PREFIX = "oriontask:cache:";
+  static final String CLEAR_ALL = "*";
+  static final String GENERATION_PREFIX = "oriontask:cache-generation:";
+  private static final int CLEAR_BATCH_SIZE = 500;
+  private static final int LOCAL_STRIPES = 64;
+
+  /** Deletes the value and bumps its generation, refusing loads that started before. */
+  private static final RedisScript<Long> EVICT_SCRIPT =
+      new DefaultRedisScript<>(
+          "redis.call('del', KEYS[1]) "
+              + "local generation = redis.call('incr', KEYS[2]) "
+              + "redis.call('pexpire', KEYS[2], ARGV[1]) "
+              + "return generation",
+          Long.class);
+
+  /** Stores a loaded value only if no eviction bumped the generation read before loading it. */
+  private static final RedisScript<Long> FILL_SCRIPT =
+      new DefaultRedisScript<>(
+          "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+              + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+              + "return 1",
+          Long.class);
+
+  private final String name;
+  private final Cache<Object, Object> local;
+  private final JavaType valueType;
+  private final Duration ttl;
+  private final StringRedisTemplate redisTemplate;
+  private final JsonMapper jsonMapper;
+  private final String invalidationChannel;
+  private final boolean sharedTier;
+  private final AtomicLongArray localGenerations = new AtomicLongArray(LOCAL_STRIPES);
+
+  /**
+   * @param redisTemplate null keeps the cache local only and disables the broadcast
+   * @param invalidationChannel null disables the eviction broadcast
+   * @param sharedTier false keeps values out of Redis while still broadcasting evictions
+   */
+  public TwoTierCache(
+      String name,
+      Cache<Object, Object> local,
+      JavaType valueType,
+      Duration ttl,
+      StringRedisTemplate redisTemplate,
+      JsonMapper jsonMapper,
+      String invalidationChannel,
+      boolean sharedTier) {
+    super(false);
+    this.name = name;
+    this.local = local;
+    this.valueType = valueType;
+    this.ttl = ttl;
+    this.redisTemplate = redisTemplate;
+    this.jsonMapper = jsonMapper;
+    this.invalidationChannel = invalidationChannel;
+    this.sharedTier = sharedTier && redisTemplate != null;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return local;
+  }
+
+  @Override
+  protected Object lookup(Object key) {
+    Object value = local.getIfPresent(key);
+    if (value == null) {
+      long localGeneration = localGeneration(key);
+      value = readShared(key);
+      if (value != null) {
+        fillLocal(key, value, localGeneration);
+      }
+    }
+    return value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    Object cached = local.getIfPresent(key);
+    if (cached != null) {
+      return (T) cached;
+    }
+    long localGeneration = localGeneration(key);
+    SharedEntry shared = readSharedEntry(key);
+    if (shared.value() != null) {
+      fillLocal(key, shared.value(), localGeneration);
+      return (T) shared.value();
+    }
+    T loaded;
+    try {
+      loaded = valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    if (loaded != null) {
+      fillShared(key, loaded, shared.generation());
+      fillLocal(key, loaded, localGeneration);
+    }
+    return loaded;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    if (value == null) {
+      evict(key);
+      return;
+    }
+    writeShared(key, value);
+    local.put(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    if (sharedTier) {
+      try {
+        redisTemplate.execute(
+            EVICT_SCRIPT,
+            List.of(sharedKey(key), generationKey(key)),
+            Long.toString(ttl.toMillis()));
+      } catch (DataAccessException e) {
+        log.warn(
+            "TwoTierCache.evict shared delete failed cache={} key={}: {}",
+            name,
+            key,
+            e.getMessage());
+      }
+    }
+    invalidateLocal(key);
+    broadcast(key.toString());
+  }
+
+  @Override
+  public void clear() {
+    if (sharedTier) {
+      try {
+        clearShared();
+      } catch (DataAccessException e) {
+        log.warn("TwoTierCache.clear shared delete failed cache={}: {}", name, e.getMessage());
+      }
+    }
+    evictLocally(CLEAR_ALL);
+    broadcast(CLEAR_ALL);
+  }
+
+  /** Applies an eviction announced by another node; the shared tier is already done. */
+  void evictLocally(String key) {
+    if (CLEAR_ALL.equals(key)) {
+      for (int i = 0; i < LOCAL_STRIPES; i++) {
+        localGenerations.incrementAndGet(i);
+      }
+      local.invalidateAll();
+    } else {
+      invalidateLocal(key);
+    }
+  }
+
+  private void invalidateLocal(Object key) {
+    localGenerations.incrementAndGet(stripe(key));
+    local.invalidate(key);
+  }
+
+  /**
+   * Stores a value read after {@code generation} was taken unless an eviction has happened since.
+   * The check runs inside the compute, so an eviction either bumps the stripe first and the value
+   * is dropped, or waits for the compute and removes it.
+   */
+  private void fillLocal(Object key, Object value, long generation) {
+    local.asMap().compute(key, (k, current) -> localGeneration(k) == generation ? value : current);
+  }
+
+  private long localGeneration(Object key) {
+    return localGenerations.get(stripe(key));
+  }
+
+  private static int stripe(Object key) {
+    return Math.floorMod(key.toString().hashCode(), LOCAL_STRIPES);
+  }
+
+  private Object readShared(Object key) {
+    if (!sharedTier) {
+      return null;
+    }
+    try {
+      String json = redisTemplate.opsForValue().get(sharedKey(key));
+      return json == null ? null : jsonMapper.readValue(json, valueType);
+    } catch (DataAccessException | JacksonException e) {
+      log.warn(
+          "TwoTierCache.read shared tier failed cache={} key={}: {}",
+          name,
+          key,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Reads the value and its generation in one round trip; a null generation means Redis could not
+   * be read, so nothing loaded afterwards may be written back.
+   */
+  private SharedEntry readSharedEntry(Object key) {
+    if (!sharedTier) {
+      return new SharedEntry(null, null);
+    }
+    try {
+      List<String> values =
+          redisTemplate.opsForValue().multiGet(List.of(sharedKey(key), generationKey(key)));
+      if (values == null) {
+        return new SharedEntry(null, null);
+      }
+      String json = values.get(0);
+      String generation = values.get(1) == null ? "0" : values.get(1);
+      return new SharedEntry(
+          json == null ? null : jsonMapper.readValue(json, valueType), generation);
+    } catch (DataAccessException | JacksonException e) {
+      log.warn(
+          "TwoTierCache.read shared tier failed cache={} key={}: {}",
+          name,
+          key,
+          e.getMessage());
+      return new SharedEntry(null, null);
+    }
+  }
+
+  private void writeShared(Object key, Object value) {
+    if (!sharedTier || value == null) {
+      return;
+    }
+    try {
+      redisTemplate.opsForValue().set(sharedKey(key), jsonMapper.writeValueAsString(value), ttl);
+    } catch (DataAccessException | JacksonException e) {
+      log.warn(
+          "TwoTierCache.write shared tier failed cache={} key={}: {}",
+          name,
+          key,
+          e.getMessage());
+    }
+  }
+
+  /** Writes a loaded value unless the key was evicted after {@code generation} was read. */
+  private void fillShared(Object key, Object value, String generation) {
+    if (!sharedTier || generation == null) {
+      return;
+    }
+    try {
+      redisTemplate.execute(
+          FILL_SCRIPT,
+          List.of(sharedKey(key), generationKey(key)),
+          generation,
+          jsonMapper.writeValueAsString(value),
+          Long.toString(ttl.toMillis()));
+    } catch (DataAccessException | JacksonException e) {
+      log.warn(
+          "TwoTierCache.write shared tier failed cache={} key={}: {}",
+          name,
+          key,
+          e.getMessage());
+    }
+  }
+
+  private void clearShared() {
+    ScanOptions options =
+        ScanOptions.scanOptions().match(KEY_PREFIX + name + ":*").count(CLEAR_BATCH_SIZE).build();
+    List<String> batch = new ArrayList<>();
+    try (Cursor<String> keys = redisTemplate.scan(options)) {
+      while (keys.hasNext()) {
+        batch.add(keys.next());
+        if (batch.size() == CLEAR_BATCH_SIZE) {
+          redisTemplate.delete(batch);
+          batch.clear();
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      redisTemplate.delete(batch);
+    }
+  }
+
+  private void broadcast(String key) {
+    if (redisTemplate == null || invalidationChannel == null) {
+      return;
+    }
+    try {
+      redisTemplate.convertAndSend(
+          invalidationChannel, name + CacheInvalidationSubscriber.SEPARATOR + key);
+    } catch (DataAccessException e) {
+      log.warn("TwoTierCache.broadcast failed cache={} key={}: {}", name, key, e.getMessage());
+    }
+  }
+
+  private String sharedKey(Object key) {
+    return KEY_PREFIX + name + ":" + key;
+  }
+
+  private String generationKey(Object key) {
+    return GENERATION_PREFIX + name + ":" + key;
+  }
+
+  private record SharedEntry(Object value, String generation) {}
+}
@@ -0,0 +1,98 @@
+package br.com.oriontask.backend.shared.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+/** Holds the {@link TwoTierCache}s registered at startup; unknown names resolve to null. */
+public class TwoTierCacheManager implements CacheManager {
+
+  private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+  private final StringRedisTemplate redisTemplate;
+  private final JsonMapper jsonMapper;
+  private final String invalidationChannel;
+  private final boolean sharedTier;
+
+  /**
+   * @param redisTemplate null keeps every cache local only
+   * @param invalidationChannel null disables the eviction broadcast
+   */
+  public TwoTierCacheManager(
+      StringRedisTemplate redisTemplate, JsonMapper jsonMapper, String invalidationChannel) {
+    this(redisTemplate, jsonMapper, invalidationChannel, true);
+  }
+
+  /**
+   * @param sharedTier false keeps values out of Redis; evictions are still broadcast on the
+   *     invalidation channel
+   */
+  public TwoTierCacheManager(
+      StringRedisTemplate redisTemplate,
+      JsonMapper jsonMapper,
+      String invalidationChannel,
+      boolean sharedTier) {
+    this.redisTemplate = redisTemplate;
+    this.jsonMapper = jsonMapper;
+    this.invalidationChannel = invalidationChannel;
+    this.sharedTier = sharedTier;
+  }
+
+  public TwoTierCacheManager register(String name, Class<?> valueType, Duration ttl, long maxSize) {
+    return register(name, jsonMapper.getTypeFactory().constructType(valueType), ttl, maxSize);
+  }
+
+  /** Local entries expire with the same TTL as the shared ones, so neither outlives the other. */
+  public TwoTierCacheManager register(String name, JavaType valueType, Duration ttl, long maxSize) {
+    return add(name, valueType, ttl, maxSize, sharedTier);
+  }
+
+  /**
+   * Registers a cache that never stores values in Redis, for loaders that read Redis themselves.
+   * Evictions are still broadcast, and the TTL bounds how long a lost one goes unnoticed.
+   */
+  public TwoTierCacheManager registerLocal(
+      String name, Class<?> valueType, Duration ttl, long maxSize) {
+    return add(name, jsonMapper.getTypeFactory().constructType(valueType), ttl, maxSize, false);
+  }
+
+  private TwoTierCacheManager add(
+      String name, JavaType valueType, Duration ttl, long maxSize, boolean shared) {
+    caches.put(
+        name,
+        new TwoTierCache(
+            name,
+            Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).recordStats().build(),
+            valueType,
+            ttl,
+            redisTemplate,
+            jsonMapper,
+            invalidationChannel,
+            shared));
+    return this;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    return caches.get(name);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return caches.keySet();
+  }
+
+  /** Local half of an eviction announced on the invalidation channel. */
+  public void evictLocally(String name, String key) {
+    TwoTierCache cache = caches.get(name);
+    if (cache != null) {
+      cache.evictLocally(key);
+    }
+  }
+}
@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.shared.enums;
+
+public enum MilestoneStatus {
+  OPEN,
+  COMPLETED
+}
@@ -0,0 +1,11 @@
+package br.com.oriontask.backend.shared.enums;
+
+public enum TaskBatchOperationType {
+  CREATE,
+  UPDATE,
+  NOW,
+  SNOOZE,
+  DONE,
+  CHANGE_STATUS,
+  DELETE
+}
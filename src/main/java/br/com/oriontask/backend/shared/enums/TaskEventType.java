@@ -0,0 +1,8 @@
+package br.com.oriontask.backend.shared.enums;
+
+public enum TaskEventType {
+  CREATED,
+  UPDATED,
+  STATUS_CHANGED,
+  DELETED
+}
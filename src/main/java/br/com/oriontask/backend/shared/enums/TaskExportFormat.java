@@ -0,0 +1,14 @@
+package br.com.oriontask.backend.shared.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv", "csv");
+
+  private final String mediaType;
+  private final String extension;
+}
@@ -18,9 +18,10 @@ import org.springframework.stereotype.Service;
 public class RedisTokenService {
 
   private final TokenService tokenService;
+  private final RevokedTokenCache revokedTokens;
 
   private static final String PASSWORD_RESET_PREFIX = "password_reset:";
-  private static final String BLACKLIST_TOKEN_PREFIX = "blacklisted_token:";
+  static final String BLACKLIST_TOKEN_PREFIX = "blacklisted_token:";
   private static final Duration TOKEN_VALIDITY = Duration.ofHours(2);
 
   private final StringRedisTemplate redisTemplate;
@@ -54,6 +55,7 @@ public class RedisTokenService {
     redisTemplate
         .opsForValue()
         .set(BLACKLIST_TOKEN_PREFIX + jti, "true", remainingTime, TimeUnit.MILLISECONDS);
+    revokedTokens.revoke(jti, decodedJWT.getExpiresAt().getTime());
 
     log.info("Blacklisted token with jti={} for userId={}", jti, userId);
   }
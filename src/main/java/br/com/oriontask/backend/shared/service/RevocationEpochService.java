@@ -0,0 +1,67 @@
+package br.com.oriontask.backend.shared.service;
+
+import br.com.oriontask.backend.shared.utils.CacheNames;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-user "log out everywhere": every token issued before the user's epoch is rejected, whatever
+ * its jti. One small Redis key per user, and only for users who bumped it. Misses read that key
+ * straight from Redis into a short-lived local cache that is never written back, so a load racing a
+ * bump cannot plant a stale epoch for other nodes; the bump's eviction is broadcast to every node.
+ * Users without an epoch are cached as 0 so they reach Redis at most once per cache TTL.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationEpochService {
+
+  private static final String EPOCH_PREFIX = "revocation_epoch:";
+
+  /** Outlives the longest-lived token, the 7-day refresh token; older tokens are expired anyway. */
+  private static final Duration EPOCH_TTL = Duration.ofDays(8);
+
+  private final StringRedisTemplate redisTemplate;
+  private final CacheManager cacheManager;
+
+  /**
+   * Revokes every token of the user issued so far. Epochs have the seconds precision of the iat
+   * claim, so a token issued within the same second survives rather than rejecting a new login.
+   */
+  public void bump(UUID userId) {
+    long epoch = Instant.now().getEpochSecond();
+    redisTemplate.opsForValue().set(EPOCH_PREFIX + userId, Long.toString(epoch), EPOCH_TTL);
+    Cache cache = cacheManager.getCache(CacheNames.REVOCATION_EPOCHS);
+    if (cache != null) {
+      cache.evict(userId.toString());
+    }
+    log.info("Revocation epoch bumped for userId={} epoch={}", userId, epoch);
+  }
+
+  public boolean isRevoked(UUID userId, Date issuedAt) {
+    long epoch = getEpoch(userId);
+    return epoch > 0 && (issuedAt == null || issuedAt.toInstant().getEpochSecond() < epoch);
+  }
+
+  private long getEpoch(UUID userId) {
+    Cache cache = cacheManager.getCache(CacheNames.REVOCATION_EPOCHS);
+    if (cache == null) {
+      return loadEpoch(userId);
+    }
+    Long epoch = cache.get(userId.toString(), () -> loadEpoch(userId));
+    return epoch == null ? 0 : epoch;
+  }
+
+  private long loadEpoch(UUID userId) {
+    String epoch = redisTemplate.opsForValue().get(EPOCH_PREFIX + userId);
+    return epoch == null ? 0 : Long.parseLong(epoch);
+  }
+}
@@ -0,0 +1,177 @@
+package br.com.oriontask.backend.shared.service;
+
+import br.com.oriontask.backend.shared.utils.BloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Node-local copy of the token blacklist: a bloom filter in front of the exact set of revoked jtis,
+ * each kept until its token expires. Revocations arrive over pub/sub and the whole set is reloaded
+ * from Redis every time the channel is (re)subscribed, so a "no" from the bloom filter is trusted
+ * and Redis is only asked about its false positives, or while the copy is not in sync.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedTokenCache {
+
+  static final String SEPARATOR = "|";
+  private static final int SCAN_BATCH_SIZE = 1000;
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private final StringRedisTemplate redisTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.redis.pubsub.enabled:true}")
+  private boolean pubSubEnabled;
+
+  @Value("${app.auth.revocation-channel:oriontask:token-revocations}")
+  private String channel;
+
+  @Value("${app.auth.revocation.expected-tokens:100000}")
+  private int expectedTokens;
+
+  private final Map<String, Long> expiresAtByJti = new ConcurrentHashMap<>();
+  private final Object lock = new Object();
+  private volatile BloomFilter bloomFilter;
+  private volatile boolean subscribed;
+  private volatile boolean synced;
+
+  public boolean isRevoked(String jti) {
+    BloomFilter filter = bloomFilter;
+    if (synced && filter != null) {
+      if (!filter.mightContain(jti)) {
+        meterRegistry.counter("oriontask.auth.revocation.check", "source", "local").increment();
+        return false;
+      }
+      if (expiresAtByJti.containsKey(jti)) {
+        meterRegistry.counter("oriontask.auth.revocation.check", "source", "local").increment();
+        return true;
+      }
+    }
+    meterRegistry.counter("oriontask.auth.revocation.check", "source", "redis").increment();
+    return Boolean.TRUE.equals(
+        redisTemplate.hasKey(RedisTokenService.BLACKLIST_TOKEN_PREFIX + jti));
+  }
+
+  /** Records a revocation made on this node and announces it to the others. */
+  public void revoke(String jti, long expiresAtMillis) {
+    add(jti, expiresAtMillis);
+    if (!pubSubEnabled) {
+      return;
+    }
+
+    try {
+      redisTemplate.convertAndSend(channel, jti + SEPARATOR + expiresAtMillis);
+    } catch (DataAccessException e) {
+      log.warn("RevokedTokenCache.revoke publish failed jti={}: {}", jti, e.getMessage());
+    }
+  }
+
+  void add(String jti, long expiresAtMillis) {
+    synchronized (lock) {
+      expiresAtByJti.put(jti, expiresAtMillis);
+      BloomFilter filter = bloomFilter;
+      if (filter != null) {
+        filter.add(jti);
+      }
+    }
+  }
+
+  void onSubscribed() {
+    subscribed = true;
+    Thread.startVirtualThread(this::resync);
+  }
+
+  /** Revocations published from now on would be missed, so Redis answers until the next resync. */
+  void onUnsubscribed() {
+    subscribed = false;
+    synced = false;
+  }
+
+  /** Also runs on a timer to drop expired entries, which a bloom filter only sheds by rebuild. */
+  @Scheduled(fixedDelayString = "${app.auth.revocation.resync-interval-ms:300000}")
+  public void resync() {
+    if (!pubSubEnabled || !subscribed) {
+      return;
+    }
+
+    Map<String, Long> stored;
+    try {
+      stored = loadFromRedis();
+    } catch (DataAccessException e) {
+      synced = false;
+      log.warn("RevokedTokenCache.resync failed, checking Redis meanwhile: {}", e.getMessage());
+      return;
+    }
+
+    synchronized (lock) {
+      long now = System.currentTimeMillis();
+      expiresAtByJti.putAll(stored);
+      expiresAtByJti.values().removeIf(expiresAt -> expiresAt <= now);
+      BloomFilter filter =
+          new BloomFilter(Math.max(expectedTokens, 2 * expiresAtByJti.size()), FALSE_POSITIVE_RATE);
+      expiresAtByJti.keySet().forEach(filter::add);
+      bloomFilter = filter;
+      synced = subscribed;
+    }
+    log.info("RevokedTokenCache.resync completed revoked={}", expiresAtByJti.size());
+  }
+
+  /** Reads the TTLs of each scanned batch in one pipelined round trip. */
+  private Map<String, Long> loadFromRedis() {
+    Map<String, Long> stored = new HashMap<>();
+    ScanOptions options =
+        ScanOptions.scanOptions()
+            .match(RedisTokenService.BLACKLIST_TOKEN_PREFIX + "*")
+            .count(SCAN_BATCH_SIZE)
+            .build();
+    List<String> batch = new ArrayList<>();
+    try (Cursor<String> keys = redisTemplate.scan(options)) {
+      while (keys.hasNext()) {
+        batch.add(keys.next());
+        if (batch.size() == SCAN_BATCH_SIZE) {
+          loadBatch(batch, stored);
+          batch.clear();
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      loadBatch(batch, stored);
+    }
+    return stored;
+  }
+
+  private void loadBatch(List<String> keys, Map<String, Long> stored) {
+    List<Object> ttls =
+        redisTemplate.executePipelined(
+            (RedisCallback<Object>)
+                connection -> {
+                  StringRedisConnection strings = (StringRedisConnection) connection;
+                  keys.forEach(strings::pTtl);
+                  return null;
+                });
+    long now = System.currentTimeMillis();
+    int prefixLength = RedisTokenService.BLACKLIST_TOKEN_PREFIX.length();
+    for (int i = 0; i < keys.size(); i++) {
+      if (ttls.get(i) instanceof Long ttlMillis && ttlMillis > 0) {
+        stored.put(keys.get(i).substring(prefixLength), now + ttlMillis);
+      }
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package br.com.oriontask.backend.shared.service;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds revocations published by any node into the local {@link RevokedTokenCache}, and has it
+ * reload from Redis whenever the subscription is (re)established.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedTokenSubscriber implements MessageListener, SubscriptionListener {
+
+  private final RevokedTokenCache revokedTokens;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(RevokedTokenCache.SEPARATOR);
+    try {
+      revokedTokens.add(
+          body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+    } catch (IndexOutOfBoundsException | NumberFormatException e) {
+      log.warn("RevokedTokenSubscriber.onMessage ignored malformed message: {}", body);
+    }
+  }
+
+  @Override
+  public void onChannelSubscribed(byte[] channel, long count) {
+    log.info("RevokedTokenSubscriber subscribed, resyncing revoked tokens");
+    revokedTokens.onSubscribed();
+  }
+
+  @Override
+  public void onChannelUnsubscribed(byte[] channel, long count) {
+    log.warn("RevokedTokenSubscriber unsubscribed, falling back to Redis checks");
+    revokedTokens.onUnsubscribed();
+  }
+}
@@ -0,0 +1,64 @@
+package br.com.oriontask.backend.shared.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe bloom filter over strings. Sized for an expected number of entries and false
+ * positive rate; entries cannot be removed, so owners rebuild it to drop them.
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bits;
+  private final int hashes;
+
+  public BloomFilter(int expectedEntries, double falsePositiveRate) {
+    int entries = Math.max(expectedEntries, 1);
+    long optimalBits =
+        (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.words = new AtomicLongArray((int) ((optimalBits + 63) / 64));
+    this.bits = words.length() * 64L;
+    this.hashes = Math.max(1, (int) Math.round((double) bits / entries * Math.log(2)));
+  }
+
+  public void add(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1);
+    for (int i = 0; i < hashes; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bits);
+      int word = (int) (bit >>> 6);
+      long mask = 1L << bit;
+      words.getAndUpdate(word, current -> current | mask);
+    }
+  }
+
+  /** False means definitely absent; true means present or a false positive. */
+  public boolean mightContain(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1);
+    for (int i = 0; i < hashes; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bits);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** 64-bit FNV-1a. */
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  /** SplitMix64 finalizer, an independent second hash for double hashing. */
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return (hash ^ (hash >>> 31)) | 1L;
+  }
+}
@@ -0,0 +1,18 @@
+package br.com.oriontask.backend.shared.utils;
+
+public final class CacheNames {
+
+  /** Dharma snapshots of one user, keyed by user id. */
+  public static final String DHARMAS = "dharmas";
+
+  /** Identity (id, email, confirmed) of one user, keyed by user id. */
+  public static final String USERS = "users";
+
+  /**
+   * Token revocation epoch (epoch seconds, 0 when none) of one user, keyed by user id. Local only;
+   * the epochs themselves live in Redis.
+   */
+  public static final String REVOCATION_EPOCHS = "revocation-epochs";
+
+  private CacheNames() {}
+}
@@ -1,8 +1,13 @@
 package br.com.oriontask.backend.shared.utils;
 
 import br.com.oriontask.backend.dharmas.model.Dharmas;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface DharmaLookupService {
   Dharmas getRequiredDharma(Long dharmasId, UUID userId);
+
+  /** Dharmas of the user among {@code dharmasIds}, keyed by id; unknown ids are left out. */
+  Map<Long, Dharmas> getDharmas(Collection<Long> dharmasIds, UUID userId);
 }
@@ -0,0 +1,9 @@
+package br.com.oriontask.backend.shared.utils;
+
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import java.util.UUID;
+
+public interface KarmaActivityRecorder {
+  /** Counts one completed task for today; joins the caller's transaction. */
+  void recordCompletion(UUID userId, KarmaType karmaType);
+}
@@ -0,0 +1,22 @@
+package br.com.oriontask.backend.shared.utils;
+
+import java.sql.Timestamp;
+
+/**
+ * Row count and latest update of everything a user can list. Any insert, update or delete changes
+ * at least one of them, which makes the pair usable as an ETag without reading the rows.
+ */
+public interface ListingVersion {
+  Long getCount();
+
+  Timestamp getLastUpdatedAt();
+
+  default String etag() {
+    Timestamp lastUpdatedAt = getLastUpdatedAt();
+    String updated =
+        lastUpdatedAt == null
+            ? "0"
+            : lastUpdatedAt.getTime() / 1000 + "." + lastUpdatedAt.getNanos();
+    return "\"" + getCount() + "-" + updated + "\"";
+  }
+}
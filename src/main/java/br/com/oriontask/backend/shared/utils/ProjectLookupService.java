@@ -0,0 +1,12 @@
+package br.com.oriontask.backend.shared.utils;
+
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
+import java.util.UUID;
+
+public interface ProjectLookupService {
+  /** Active project of the user that groups tasks of {@code dharmasId}. */
+  Projects getAssignableProject(Long projectId, Long dharmasId, UUID userId);
+
+  Milestones getRequiredMilestone(Long milestoneId, Long projectId);
+}
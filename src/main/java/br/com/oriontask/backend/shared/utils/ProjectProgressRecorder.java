@@ -0,0 +1,9 @@
+package br.com.oriontask.backend.shared.utils;
+
+public interface ProjectProgressRecorder {
+  /**
+   * Moves the task counters of the project and, when not null, the milestone; joins the caller's
+   * transaction.
+   */
+  void adjustProgress(Long projectId, Long milestoneId, int totalDelta, int completedDelta);
+}
@@ -4,8 +4,14 @@ import br.com.oriontask.backend.users.model.Users;
 import java.util.UUID;
 
 public interface UserLookupService {
+  /**
+   * Cached identity of the user as a detached entity: id, email and confirmed flag only. Enough for
+   * tokens and association targets; use {@link #getRequiredProfile} for anything else.
+   */
   Users getRequiredUser(UUID userId);
 
+  Users getRequiredProfile(UUID userId);
+
   Users getByEmail(String email);
 
   boolean existsByEmail(String email);
@@ -1,15 +1,30 @@
 package br.com.oriontask.backend.tasks.controller;
 
+import br.com.oriontask.backend.shared.enums.TaskExportFormat;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.tasks.dto.NewTaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskBatchRequestDTO;
+import br.com.oriontask.backend.tasks.dto.TaskBatchResultDTO;
+import br.com.oriontask.backend.tasks.dto.TaskChangesDTO;
 import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskImportReportDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
 import br.com.oriontask.backend.tasks.dto.UpdateTaskDTO;
+import br.com.oriontask.backend.tasks.service.TaskExportService;
+import br.com.oriontask.backend.tasks.service.TaskImportService;
+import br.com.oriontask.backend.tasks.service.TaskSearchService;
+import br.com.oriontask.backend.tasks.service.TaskSyncService;
 import br.com.oriontask.backend.tasks.service.TasksService;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,6 +36,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/tasks")
@@ -28,6 +45,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class TasksController {
 
   private final TasksService tasksService;
+  private final TaskExportService taskExportService;
+  private final TaskImportService taskImportService;
+  private final TaskSearchService taskSearchService;
+  private final TaskSyncService taskSyncService;
 
   @GetMapping
   public ResponseEntity<Page<TaskDTO>> list(
@@ -35,13 +56,79 @@ public class TasksController {
       @RequestParam(required = false) Long dharmaId,
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "20") int size,
-      Authentication authentication) {
+      Authentication authentication,
+      WebRequest request) {
     UUID userId = UUID.fromString(authentication.getName());
-    Page<TaskDTO> tasks =
-        tasksService.listTasks(userId, dharmaId, status, PageRequest.of(page, size));
+    if (request.checkNotModified(tasksService.getListingETag(userId))) {
+      return null;
+    }
+    PageRequest pageable =
+        PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, TasksService.MAX_PAGE_SIZE));
+    Page<TaskDTO> tasks = tasksService.listTasks(userId, dharmaId, status, pageable);
     return ResponseEntity.ok(tasks);
   }
 
+  /**
+   * Keyset listing, newest first. An empty {@code cursor} requests the first slice; {@code open}
+   * leaves out DONE tasks and cannot be combined with {@code status}.
+   */
+  @GetMapping(params = "cursor")
+  public ResponseEntity<TaskSliceDTO> listByCursor(
+      @RequestParam(required = false) TaskStatus status,
+      @RequestParam(required = false) Long dharmaId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "false") boolean open,
+      Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    if (open) {
+      if (status != null) {
+        throw new IllegalArgumentException("open cannot be combined with status");
+      }
+      return ResponseEntity.ok(tasksService.listOpenTasksByCursor(userId, dharmaId, cursor, size));
+    }
+    return ResponseEntity.ok(
+        tasksService.listTasksByCursor(userId, dharmaId, status, cursor, size));
+  }
+
+  /** Relevance-ordered search over titles and descriptions, paged with an opaque cursor. */
+  @GetMapping("/search")
+  public ResponseEntity<TaskSliceDTO> search(
+      @RequestParam String q,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(taskSearchService.search(userId, q, cursor, size));
+  }
+
+  /**
+   * Tasks created or updated and tasks/dharmas deleted after {@code since}, oldest change first.
+   * Answers 410 Gone when the cursor is older than the tombstone retention.
+   */
+  @GetMapping("/changes")
+  public ResponseEntity<TaskChangesDTO> changes(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "500") int limit,
+      Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(taskSyncService.changesSince(userId, since, limit));
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(defaultValue = "NDJSON") TaskExportFormat format,
+      Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    StreamingResponseBody body = output -> taskExportService.export(userId, format, output);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getMediaType()))
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"tasks." + format.getExtension() + "\"")
+        .body(body);
+  }
+
   @PostMapping
   public ResponseEntity<TaskDTO> create(
       @RequestBody @Valid NewTaskDTO createDTO, Authentication authentication) {
@@ -49,6 +136,24 @@ public class TasksController {
     return ResponseEntity.ok(tasksService.create(createDTO, userId));
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<List<TaskBatchResultDTO>> batch(
+      @RequestBody @Valid TaskBatchRequestDTO batchDTO, Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(tasksService.applyBatch(batchDTO.operations(), userId));
+  }
+
+  /** The body is read as it arrives; rows that fail are listed in the report, the rest are kept. */
+  @PostMapping("/import")
+  public ResponseEntity<TaskImportReportDTO> importTasks(
+      @RequestParam(defaultValue = "NDJSON") TaskExportFormat format,
+      InputStream body,
+      Authentication authentication)
+      throws IOException {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(taskImportService.importTasks(userId, format, body));
+  }
+
   @PatchMapping("{taskId}")
   public ResponseEntity<TaskDTO> update(
       @RequestBody @Valid UpdateTaskDTO editDTO,
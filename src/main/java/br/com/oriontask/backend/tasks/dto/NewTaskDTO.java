@@ -10,4 +10,6 @@ public record NewTaskDTO(
     @NotBlank @Size(min = 5, max = 60) String title,
     @Size(max = 200) String description,
     KarmaType karmaType,
-    EffortLevel effortLevel) {}
+    EffortLevel effortLevel,
+    Long projectId,
+    Long milestoneId) {}
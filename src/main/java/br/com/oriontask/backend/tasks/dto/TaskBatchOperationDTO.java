@@ -0,0 +1,17 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import br.com.oriontask.backend.shared.enums.TaskBatchOperationType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One queued edit. {@code create} is used by CREATE, {@code update} by UPDATE and {@code status}
+ * by CHANGE_STATUS; every other type only needs {@code taskId}.
+ */
+public record TaskBatchOperationDTO(
+    @NotNull TaskBatchOperationType type,
+    Long taskId,
+    @Valid NewTaskDTO create,
+    @Valid UpdateTaskDTO update,
+    TaskStatus status) {}
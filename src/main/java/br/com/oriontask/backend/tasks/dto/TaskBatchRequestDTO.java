@@ -0,0 +1,10 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TaskBatchRequestDTO(
+    @NotEmpty @Size(max = 100) List<@Valid @NotNull TaskBatchOperationDTO> operations) {}
@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import br.com.oriontask.backend.shared.enums.TaskBatchOperationType;
+
+/** Outcome of the operation at {@code index}; {@code task} is null for DELETE. */
+public record TaskBatchResultDTO(
+    int index, TaskBatchOperationType type, Long taskId, TaskDTO task) {}
@@ -0,0 +1,45 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import br.com.oriontask.backend.tasks.exception.InvalidTaskCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in the change feed: the last change sequence the client has seen and when the cursor was
+ * handed out, so cursors older than the tombstone retention can be refused.
+ */
+public record TaskChangeCursor(long changeSeq, Instant issuedAt) {
+
+  private static final String SEPARATOR = "|";
+
+  public static TaskChangeCursor initial() {
+    return new TaskChangeCursor(0, Instant.now());
+  }
+
+  public static TaskChangeCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return initial();
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      long changeSeq = Long.parseLong(raw.substring(0, separator));
+      Instant issuedAt = Instant.ofEpochMilli(Long.parseLong(raw.substring(separator + 1)));
+      return new TaskChangeCursor(changeSeq, issuedAt);
+    } catch (RuntimeException e) {
+      throw new InvalidTaskCursorException();
+    }
+  }
+
+  public boolean isInitial() {
+    return changeSeq == 0;
+  }
+
+  public String encode() {
+    String raw = changeSeq + SEPARATOR + issuedAt.toEpochMilli();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import java.util.List;
+
+public record TaskChangesDTO(
+    List<TaskDTO> changed, List<TombstoneDTO> deleted, String nextCursor, boolean hasMore) {}
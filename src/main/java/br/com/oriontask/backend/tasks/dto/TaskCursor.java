@@ -0,0 +1,42 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import br.com.oriontask.backend.tasks.exception.InvalidTaskCursorException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in the task listing, ordered by {@code (createdAt DESC, id DESC)}. Clients only see the
+ * opaque encoded form.
+ */
+public record TaskCursor(Timestamp createdAt, Long id) {
+
+  /** Sorts after every real task, so the first page uses the same keyset query as the rest. */
+  public static final TaskCursor FIRST =
+      new TaskCursor(Timestamp.from(Instant.parse("9999-12-31T23:59:59Z")), Long.MAX_VALUE);
+
+  private static final String SEPARATOR = "|";
+
+  public static TaskCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return FIRST;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      Instant createdAt = Instant.parse(raw.substring(0, separator));
+      Long id = Long.valueOf(raw.substring(separator + 1));
+      return new TaskCursor(Timestamp.from(createdAt), id);
+    } catch (RuntimeException e) {
+      throw new InvalidTaskCursorException();
+    }
+  }
+
+  public String encode() {
+    String raw = createdAt.toInstant() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
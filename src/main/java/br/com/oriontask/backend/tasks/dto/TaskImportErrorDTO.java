@@ -0,0 +1,4 @@
+package br.com.oriontask.backend.tasks.dto;
+
+/** A rejected import row; {@code line} is where the row starts in the uploaded file. */
+public record TaskImportErrorDTO(long line, String message) {}
@@ -0,0 +1,5 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import java.util.List;
+
+public record TaskImportReportDTO(int imported, int failed, List<TaskImportErrorDTO> errors) {}
@@ -0,0 +1,36 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import br.com.oriontask.backend.tasks.exception.InvalidTaskCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/** Position in search results, ordered by {@code (score DESC, id DESC)}. */
+public record TaskSearchCursor(float score, Long id) {
+
+  public static final TaskSearchCursor FIRST =
+      new TaskSearchCursor(Float.MAX_VALUE, Long.MAX_VALUE);
+
+  private static final String SEPARATOR = "|";
+
+  public static TaskSearchCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return FIRST;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      float score = Float.parseFloat(raw.substring(0, separator));
+      Long id = Long.valueOf(raw.substring(separator + 1));
+      return new TaskSearchCursor(score, id);
+    } catch (RuntimeException e) {
+      throw new InvalidTaskCursorException();
+    }
+  }
+
+  public String encode() {
+    String raw = score + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
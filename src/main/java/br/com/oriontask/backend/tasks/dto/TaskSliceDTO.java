@@ -0,0 +1,5 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import java.util.List;
+
+public record TaskSliceDTO(List<TaskDTO> items, String nextCursor, boolean hasNext) {}
@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.tasks.dto;
+
+import br.com.oriontask.backend.shared.enums.SyncEntityType;
+import java.sql.Timestamp;
+
+public record TombstoneDTO(SyncEntityType type, Long id, Timestamp deletedAt) {}
@@ -0,0 +1,8 @@
+package br.com.oriontask.backend.tasks.event;
+
+import br.com.oriontask.backend.shared.enums.TaskEventType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import java.util.UUID;
+
+/** Published inside the transaction that changed the task; relayed only once it commits. */
+public record TaskChangedEvent(UUID userId, Long taskId, TaskEventType type, TaskStatus status) {}
@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.tasks.event;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/** Published inside the transaction that snoozed the task; its wake-up is queued on commit. */
+public record TaskSnoozedEvent(UUID userId, Long taskId, Timestamp snoozedUntil) {}
@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.tasks.exception;
+
+public class InvalidSearchQueryException extends IllegalArgumentException {
+  public InvalidSearchQueryException() {
+    super("Search query must have between 1 and 200 characters");
+  }
+}
@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.tasks.exception;
+
+public class InvalidTaskCursorException extends IllegalArgumentException {
+  public InvalidTaskCursorException() {
+    super("Invalid cursor");
+  }
+}
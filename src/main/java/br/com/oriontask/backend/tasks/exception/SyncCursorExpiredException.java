@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.tasks.exception;
+
+public class SyncCursorExpiredException extends IllegalArgumentException {
+  public SyncCursorExpiredException() {
+    super("Sync cursor expired, a full resync is required");
+  }
+}
@@ -17,6 +17,8 @@ import org.mapstruct.ReportingPolicy;
     componentModel = MappingConstants.ComponentModel.SPRING)
 public interface TasksMapper {
   @Mapping(target = "dharmas", ignore = true)
+  @Mapping(target = "project", ignore = true)
+  @Mapping(target = "milestone", ignore = true)
   @Mapping(target = "status", ignore = true)
   @Mapping(target = "hidden", ignore = true)
   @Mapping(target = "completedAt", ignore = true)
@@ -1,18 +1,23 @@
 package br.com.oriontask.backend.tasks.model;
 
 import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
 import br.com.oriontask.backend.shared.enums.EffortLevel;
 import br.com.oriontask.backend.shared.enums.KarmaType;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.users.model.Users;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
 import java.sql.Timestamp;
@@ -35,17 +40,28 @@ import org.hibernate.validator.constraints.Length;
 public class Tasks {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tab_tasks_id_seq")
+  @SequenceGenerator(
+      name = "tab_tasks_id_seq", sequenceName = "tab_tasks_id_seq", allocationSize = 50)
   private Long id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "dharma_id", nullable = false)
   private Dharmas dharmas;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private Users user;
 
+  /** Optional; assigning or completing a task also moves the project's progress counters. */
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "project_id")
+  private Projects project;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "milestone_id")
+  private Milestones milestone;
+
   @Size(min = 5, max = 60, message = "The title must be between 5 and 60 characters")
   private String title;
 
@@ -70,4 +86,12 @@ public class Tasks {
   @CreationTimestamp private Timestamp createdAt;
 
   @UpdateTimestamp private Timestamp updatedAt;
+
+  /** Assigned by the database on every insert and update; drives {@code GET /tasks/changes}. */
+  @Column(insertable = false, updatable = false)
+  private Long changeSeq;
+
+  /** Database time at which {@link #changeSeq} was taken. */
+  @Column(insertable = false, updatable = false)
+  private Timestamp changedAt;
 }
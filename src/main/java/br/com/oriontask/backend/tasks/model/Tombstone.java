@@ -0,0 +1,42 @@
+package br.com.oriontask.backend.tasks.model;
+
+import br.com.oriontask.backend.shared.enums.SyncEntityType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.sql.Timestamp;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Left behind by the delete triggers on tab_tasks and tab_dharma; never written by the app. */
+@Entity
+@Table(name = "tab_tombstones")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class Tombstone {
+
+  @Id private Long changeSeq;
+
+  @Column(nullable = false)
+  private UUID userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private SyncEntityType entityType;
+
+  @Column(nullable = false)
+  private Long entityId;
+
+  @Column(nullable = false)
+  private Timestamp deletedAt;
+}
@@ -0,0 +1,34 @@
+package br.com.oriontask.backend.tasks.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.sql.Timestamp;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+@Entity
+@Table(name = "tab_user_now_slots")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class UserNowSlots {
+
+  @Id
+  @Column(name = "user_id")
+  private UUID userId;
+
+  @Builder.Default
+  @Column(nullable = false)
+  private Integer nowCount = 0;
+
+  @UpdateTimestamp private Timestamp updatedAt;
+}
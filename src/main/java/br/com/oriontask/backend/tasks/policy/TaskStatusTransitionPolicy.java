@@ -7,14 +7,23 @@ import br.com.oriontask.backend.tasks.exception.TaskAlreadyCompletedException;
 import br.com.oriontask.backend.tasks.exception.TaskDeletionNotAllowedException;
 import br.com.oriontask.backend.tasks.exception.TaskStatusChangeNotAllowedException;
 import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.service.NowSlotService;
 import java.sql.Timestamp;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class TaskStatusTransitionPolicy {
 
-  private static final Long MAX_CURRENT_TASKS = 5L;
-  private static final Integer SNOOZE_DURATION_HOURS = 2;
+  private static final int MAX_CURRENT_TASKS = 5;
+
+  private final NowSlotService nowSlots;
+
+  @Value("${task.snooze.duration-hours:2}")
+  private int snoozeDurationHours;
 
   public void ensureStatusChangeAllowed(Tasks task) {
     ensureStatusChangeAllowed(task, false);
@@ -29,23 +38,47 @@ public class TaskStatusTransitionPolicy {
     }
   }
 
-  public void ensureNowLimitNotExceeded(Long currentTasksCount, TaskStatus taskStatus) {
-    if (taskStatus == null) taskStatus = TaskStatus.NOW;
+  public int maxNowTasks() {
+    return MAX_CURRENT_TASKS;
+  }
 
-    if (currentTasksCount >= MAX_CURRENT_TASKS && taskStatus.equals(TaskStatus.NOW)) {
-      throw new NowTasksLimitExceededException();
-    }
+  public boolean hasNowCapacity(long currentTasksCount) {
+    return currentTasksCount < MAX_CURRENT_TASKS;
+  }
+
+  public int availableNowSlots(long currentTasksCount) {
+    return (int) Math.max(0, MAX_CURRENT_TASKS - currentTasksCount);
+  }
+
+  /** Must run before the task is read, see {@link NowSlotService#lock}. */
+  public void lockNowSlots(UUID userId) {
+    nowSlots.lock(userId);
+  }
+
+  /** Reserves NOW slots for up to {@code wanted} new tasks; returns how many got one. */
+  public int reserveNowSlots(UUID userId, int wanted) {
+    return nowSlots.reserveUpTo(userId, MAX_CURRENT_TASKS, wanted);
+  }
+
+  public TaskStatus initialStatusFor(UUID userId) {
+    return nowSlots.tryReserve(userId, MAX_CURRENT_TASKS) ? TaskStatus.NOW : TaskStatus.WAITING;
   }
 
   public void applyStatusTransition(Tasks task, TaskStatus newStatus) {
     if (newStatus.equals(TaskStatus.SNOOZED)) {
       throw new InvalidSnoozedStatusTransitionException();
     }
+    if (newStatus == TaskStatus.NOW) {
+      reserveNowSlot(task);
+    } else {
+      releaseNowSlot(task);
+    }
     task.setStatus(newStatus);
     task.setSnoozedUntil(null);
   }
 
   public void snoozeTask(Tasks task) {
+    releaseNowSlot(task);
     task.setStatus(TaskStatus.SNOOZED);
     task.setSnoozedUntil(getSnoozedUntil());
   }
@@ -55,6 +88,7 @@ public class TaskStatusTransitionPolicy {
       throw new TaskAlreadyCompletedException();
     }
 
+    releaseNowSlot(task);
     task.setStatus(TaskStatus.DONE);
     clearSnooze(task);
     task.setCompletedAt(new Timestamp(System.currentTimeMillis()));
@@ -65,16 +99,32 @@ public class TaskStatusTransitionPolicy {
       throw new TaskAlreadyCompletedException();
     }
 
+    reserveNowSlot(task);
     task.setStatus(TaskStatus.NOW);
     clearSnooze(task);
   }
 
+  public void releaseNowSlot(Tasks task) {
+    if (task.getStatus() == TaskStatus.NOW) {
+      nowSlots.release(task.getUser().getId());
+    }
+  }
+
   public void clearSnooze(Tasks task) {
     task.setSnoozedUntil(null);
   }
 
+  private void reserveNowSlot(Tasks task) {
+    if (task.getStatus() == TaskStatus.NOW) {
+      return;
+    }
+    if (!nowSlots.tryReserve(task.getUser().getId(), MAX_CURRENT_TASKS)) {
+      throw new NowTasksLimitExceededException();
+    }
+  }
+
   private Timestamp getSnoozedUntil() {
-    long snoozeMillis = (long) SNOOZE_DURATION_HOURS * 60 * 60 * 1000;
+    long snoozeMillis = (long) snoozeDurationHours * 60 * 60 * 1000;
     return new Timestamp(System.currentTimeMillis() + snoozeMillis);
   }
 }
@@ -0,0 +1,12 @@
+package br.com.oriontask.backend.tasks.repository;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+public interface SnoozeWakeUp {
+  Long getTaskId();
+
+  UUID getUserId();
+
+  Timestamp getSnoozedUntil();
+}
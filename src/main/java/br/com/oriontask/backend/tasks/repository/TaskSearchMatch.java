@@ -0,0 +1,7 @@
+package br.com.oriontask.backend.tasks.repository;
+
+public interface TaskSearchMatch {
+  Long getId();
+
+  Float getScore();
+}
@@ -1,37 +1,368 @@
 package br.com.oriontask.backend.tasks.repository;
 
 import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.shared.utils.ListingVersion;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
 import br.com.oriontask.backend.tasks.model.Tasks;
+import jakarta.persistence.QueryHint;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface TasksRepository extends JpaRepository<Tasks, Long> {
   Optional<Tasks> findById(Long id);
 
   Optional<Tasks> findByIdAndUserId(Long id, UUID userId);
 
+  List<Tasks> findByIdInAndUserId(Collection<Long> ids, UUID userId);
+
   Page<Tasks> findByDharmasId(Long dharmasId, Pageable pageable);
 
-  Page<Tasks> findByUserId(UUID userId, Pageable pageable);
+  @Query(
+      value =
+          """
+          SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+              t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+              t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+          FROM Tasks t
+          WHERE t.user.id = :userId
+          """,
+      countQuery = "SELECT COUNT(t) FROM Tasks t WHERE t.user.id = :userId")
+  Page<TaskDTO> findByUserId(UUID userId, Pageable pageable);
 
-  Page<Tasks> findByUserIdAndDharmasId(UUID userId, Long dharmasId, Pageable pageable);
+  @Query(
+      value =
+          """
+          SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+              t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+              t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+          FROM Tasks t
+          WHERE t.user.id = :userId AND t.dharmas.id = :dharmasId
+          """,
+      countQuery =
+          """
+          SELECT COUNT(t) FROM Tasks t
+          WHERE t.user.id = :userId AND t.dharmas.id = :dharmasId
+          """)
+  Page<TaskDTO> findByUserIdAndDharmasId(UUID userId, Long dharmasId, Pageable pageable);
 
-  Page<Tasks> findByUserIdAndStatus(UUID userId, TaskStatus status, Pageable pageable);
+  @Query(
+      value =
+          """
+          SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+              t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+              t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+          FROM Tasks t
+          WHERE t.user.id = :userId AND t.status = :status
+          """,
+      countQuery = "SELECT COUNT(t) FROM Tasks t WHERE t.user.id = :userId AND t.status = :status")
+  Page<TaskDTO> findByUserIdAndStatus(UUID userId, TaskStatus status, Pageable pageable);
 
-  Page<Tasks> findByUserIdAndDharmasIdAndStatus(
+  @Query(
+      value =
+          """
+          SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+              t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+              t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+          FROM Tasks t
+          WHERE t.user.id = :userId AND t.dharmas.id = :dharmasId AND t.status = :status
+          """,
+      countQuery =
+          """
+          SELECT COUNT(t) FROM Tasks t
+          WHERE t.user.id = :userId AND t.dharmas.id = :dharmasId AND t.status = :status
+          """)
+  Page<TaskDTO> findByUserIdAndDharmasIdAndStatus(
       UUID userId, Long dharmasId, TaskStatus status, Pageable pageable);
 
   Long countByDharmasId(Long dharmasId);
 
-  Long countByDharmasUserIdAndStatus(java.util.UUID userId, TaskStatus status);
+  boolean existsByDharmasIdAndStatusNot(Long dharmasId, TaskStatus status);
+
+  /** Deletes at most {@code limit} tasks of the dharma in that status; each leaves a tombstone. */
+  @Modifying
+  @Query(
+      value =
+          """
+          DELETE FROM tab_tasks
+          WHERE id IN (
+              SELECT id FROM tab_tasks
+              WHERE dharma_id = :dharmasId AND status = :status
+              LIMIT :limit)
+          """,
+      nativeQuery = true)
+  int deleteByDharmasIdAndStatus(Long dharmasId, String status, int limit);
+
+  @Query(
+      """
+      SELECT COUNT(t) AS count, MAX(t.updatedAt) AS lastUpdatedAt
+      FROM Tasks t
+      WHERE t.user.id = :userId
+      """)
+  ListingVersion findListingVersionByUserId(UUID userId);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.user.id = :userId
+        AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+      ORDER BY t.createdAt DESC, t.id DESC
+      """)
+  Slice<TaskDTO> findByUserIdBefore(UUID userId, Timestamp createdAt, Long id, Pageable pageable);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.user.id = :userId AND t.dharmas.id = :dharmasId
+        AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+      ORDER BY t.createdAt DESC, t.id DESC
+      """)
+  Slice<TaskDTO> findByUserIdAndDharmasIdBefore(
+      UUID userId, Long dharmasId, Timestamp createdAt, Long id, Pageable pageable);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.user.id = :userId AND t.status = :status
+        AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+      ORDER BY t.createdAt DESC, t.id DESC
+      """)
+  Slice<TaskDTO> findByUserIdAndStatusBefore(
+      UUID userId, TaskStatus status, Timestamp createdAt, Long id, Pageable pageable);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.user.id = :userId AND t.dharmas.id = :dharmasId AND t.status = :status
+        AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+      ORDER BY t.createdAt DESC, t.id DESC
+      """)
+  Slice<TaskDTO> findByUserIdAndDharmasIdAndStatusBefore(
+      UUID userId,
+      Long dharmasId,
+      TaskStatus status,
+      Timestamp createdAt,
+      Long id,
+      Pageable pageable);
+
+  /** Every status but DONE; the literal predicate matches the partial idx_tasks_user_open. */
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.user.id = :userId
+        AND t.status <> br.com.oriontask.backend.shared.enums.TaskStatus.DONE
+        AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+      ORDER BY t.createdAt DESC, t.id DESC
+      """)
+  Slice<TaskDTO> findOpenByUserIdBefore(
+      UUID userId, Timestamp createdAt, Long id, Pageable pageable);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.user.id = :userId AND t.dharmas.id = :dharmasId
+        AND t.status <> br.com.oriontask.backend.shared.enums.TaskStatus.DONE
+        AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))
+      ORDER BY t.createdAt DESC, t.id DESC
+      """)
+  Slice<TaskDTO> findOpenByUserIdAndDharmasIdBefore(
+      UUID userId, Long dharmasId, Timestamp createdAt, Long id, Pageable pageable);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.id IN :ids AND t.user.id = :userId
+      """)
+  List<TaskDTO> findDTOsByIdInAndUserId(Collection<Long> ids, UUID userId);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.tasks.dto.TaskDTO(
+          t.id, t.dharmas.id, t.title, t.description, t.karmaType, t.effortLevel, t.status,
+          t.hidden, t.completedAt, t.snoozedUntil, t.createdAt, t.updatedAt)
+      FROM Tasks t
+      WHERE t.project.id = :projectId AND t.user.id = :userId
+      ORDER BY t.createdAt DESC, t.id DESC
+      """)
+  List<TaskDTO> findDTOsByProjectIdAndUserId(Long projectId, UUID userId);
+
+  /** Ranked full-text matches after the given position; Postgres only, see V21. */
+  @Query(
+      value =
+          """
+          SELECT t.id AS id, ts_rank(t.search_vector, query) AS score
+          FROM tab_tasks t, websearch_to_tsquery('simple', :text) query
+          WHERE t.user_id = :userId AND t.search_vector @@ query
+            AND (ts_rank(t.search_vector, query) < :score
+                 OR (ts_rank(t.search_vector, query) = :score AND t.id < :id))
+          ORDER BY score DESC, t.id DESC
+          LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<TaskSearchMatch> searchByScoreBefore(
+      UUID userId, String text, float score, Long id, int limit);
+
+  /** Case-insensitive substring match on title or description, newest id first. */
+  @Query(
+      """
+      SELECT t.id FROM Tasks t
+      WHERE t.user.id = :userId AND t.id < :id
+        AND (LOWER(t.title) LIKE :pattern ESCAPE '\\'
+             OR LOWER(t.description) LIKE :pattern ESCAPE '\\')
+      ORDER BY t.id DESC
+      """)
+  List<Long> searchByPatternBefore(UUID userId, String pattern, Long id, Pageable pageable);
+
+  /** Every task of the user, oldest first, read through a server-side cursor. */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT t FROM Tasks t WHERE t.user.id = :userId ORDER BY t.createdAt, t.id")
+  Stream<Tasks> streamByUserId(UUID userId);
+
+  @Query(
+      """
+      SELECT t FROM Tasks t
+      WHERE t.user.id = :userId AND t.changeSeq > :changeSeq
+      ORDER BY t.changeSeq
+      """)
+  List<Tasks> findChangedAfter(UUID userId, Long changeSeq, Pageable pageable);
+
+  /**
+   * Database time before which every change is final: the start of the oldest other transaction
+   * that holds an xid, or the current time when none does. Any change that transaction makes is
+   * stamped later and carries a higher change_seq than the changes before this instant.
+   */
+  @Query(
+      value =
+          """
+          SELECT COALESCE(MIN(a.xact_start), clock_timestamp())
+          FROM pg_stat_activity a
+          WHERE a.backend_xid IS NOT NULL AND a.pid <> pg_backend_pid()
+          """,
+      nativeQuery = true)
+  Timestamp findChangeWatermark();
+
+  /**
+   * Newest WAITING task of every user in the given id range that has one, together with the
+   * user's NOW counter.
+   */
+  @Query(
+      value =
+          """
+          SELECT ranked.id AS taskId, ranked.user_id AS userId,
+                 COALESCE(slots.now_count, 0) AS nowCount
+          FROM (
+              SELECT w.id, w.user_id,
+                     ROW_NUMBER() OVER (
+                         PARTITION BY w.user_id ORDER BY w.created_at DESC, w.id DESC) AS rn
+              FROM tab_tasks w
+              WHERE w.status = 'WAITING' AND w.user_id BETWEEN :fromUserId AND :toUserId
+          ) ranked
+          LEFT JOIN tab_user_now_slots slots ON slots.user_id = ranked.user_id
+          WHERE ranked.rn = 1
+          ORDER BY ranked.id
+          """,
+      nativeQuery = true)
+  List<WaitingPromotionCandidate> findWaitingPromotionCandidates(UUID fromUserId, UUID toUserId);
+
+  @Query(
+      value =
+          """
+          SELECT t.id FROM tab_tasks t
+          WHERE t.id IN (:ids) AND t.status = 'WAITING'
+          FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<Long> lockWaitingTaskIds(List<Long> ids);
+
+  /**
+   * Snoozes of one user-id range ending before {@code until}; served by the partial index on
+   * snoozed_until.
+   */
+  @Query(
+      """
+      SELECT t.id AS taskId, t.user.id AS userId, t.snoozedUntil AS snoozedUntil
+      FROM Tasks t
+      WHERE t.status = :status AND t.snoozedUntil <= :until
+        AND t.user.id BETWEEN :fromUserId AND :toUserId
+      """)
+  List<SnoozeWakeUp> findSnoozeWakeUps(
+      TaskStatus status, Timestamp until, UUID fromUserId, UUID toUserId);
+
+  @Query(
+      """
+      SELECT t.id AS taskId, t.user.id AS userId, t.snoozedUntil AS snoozedUntil
+      FROM Tasks t
+      WHERE t.id IN :ids AND t.status = :status AND t.snoozedUntil <= :now
+      ORDER BY t.snoozedUntil, t.id
+      """)
+  List<SnoozeWakeUp> findDueSnoozeWakeUps(List<Long> ids, TaskStatus status, Timestamp now);
+
+  @Query(
+      value =
+          """
+          SELECT t.id FROM tab_tasks t
+          WHERE t.id IN (:ids) AND t.status = 'SNOOZED' AND t.snoozed_until <= :now
+          FOR UPDATE
+          """,
+      nativeQuery = true)
+  List<Long> lockDueSnoozedTaskIds(List<Long> ids, Timestamp now);
 
-  @Query("SELECT DISTINCT t.user.id FROM Tasks t WHERE t.status = :status")
-  List<UUID> findDistinctUserIdsByStatus(TaskStatus status);
+  @Modifying
+  @Query(
+      """
+      UPDATE Tasks t
+      SET t.status = :newStatus, t.snoozedUntil = null, t.updatedAt = CURRENT_TIMESTAMP
+      WHERE t.id IN :ids AND t.status = :currentStatus
+      """)
+  int updateStatusByIdIn(List<Long> ids, TaskStatus currentStatus, TaskStatus newStatus);
 
-  Optional<Tasks> findFirstByUserIdAndStatusOrderByCreatedAtDesc(UUID userId, TaskStatus status);
+  /** Sets {@code hidden} on at most {@code limit} tasks of the dharma that differ from it. */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE tab_tasks
+          SET hidden = :hidden, updated_at = CURRENT_TIMESTAMP
+          WHERE id IN (
+              SELECT id FROM tab_tasks
+              WHERE dharma_id = :dharmasId AND hidden <> :hidden
+              LIMIT :limit)
+          """,
+      nativeQuery = true)
+  int updateHiddenByDharmasId(Long dharmasId, boolean hidden, int limit);
 }
@@ -0,0 +1,30 @@
+package br.com.oriontask.backend.tasks.repository;
+
+import br.com.oriontask.backend.tasks.model.Tombstone;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+  List<Tombstone> findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(
+      UUID userId, Long changeSeq, Pageable pageable);
+
+  /** Deletes at most {@code limit} tombstones older than {@code cutoff}. */
+  @Modifying
+  @Query(
+      value =
+          """
+          DELETE FROM tab_tombstones
+          WHERE change_seq IN (
+              SELECT change_seq FROM tab_tombstones
+              WHERE deleted_at < :cutoff
+              LIMIT :limit)
+          """,
+      nativeQuery = true)
+  int deleteOlderThan(Timestamp cutoff, int limit);
+}
@@ -0,0 +1,104 @@
+package br.com.oriontask.backend.tasks.repository;
+
+import br.com.oriontask.backend.tasks.model.UserNowSlots;
+import jakarta.persistence.LockModeType;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface UserNowSlotsRepository extends JpaRepository<UserNowSlots, UUID> {
+
+  @Modifying
+  @Query(
+      """
+      UPDATE UserNowSlots s
+      SET s.nowCount = s.nowCount + 1, s.updatedAt = CURRENT_TIMESTAMP
+      WHERE s.userId = :userId AND s.nowCount < :limit
+      """)
+  int incrementIfBelow(UUID userId, int limit);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE UserNowSlots s
+      SET s.nowCount = s.nowCount - 1, s.updatedAt = CURRENT_TIMESTAMP
+      WHERE s.userId = :userId AND s.nowCount > 0
+      """)
+  int decrement(UUID userId);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE UserNowSlots s
+      SET s.nowCount = s.nowCount + :delta, s.updatedAt = CURRENT_TIMESTAMP
+      WHERE s.userId IN :userIds
+      """)
+  int incrementAllBy(Collection<UUID> userIds, int delta);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<UserNowSlots> findByUserIdIn(Collection<UUID> userIds);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM UserNowSlots s WHERE s.userId = :userId")
+  Optional<UserNowSlots> lockByUserId(UUID userId);
+
+  /** Creates the counter row seeded from the user's current NOW tasks, if it does not exist. */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO tab_user_now_slots (user_id, now_count, updated_at)
+          SELECT :userId, COUNT(*), CURRENT_TIMESTAMP
+          FROM tab_tasks t
+          WHERE t.user_id = :userId AND t.status = 'NOW'
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertIfAbsent(UUID userId);
+
+  /**
+   * Creates the missing counter rows seeded from each user's current NOW tasks, like {@link
+   * #insertIfAbsent}; {@link #reconcile} skips fresh rows, so a zero seed would stick.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO tab_user_now_slots (user_id, now_count, updated_at)
+          SELECT u.id,
+                 (SELECT COUNT(*) FROM tab_tasks t WHERE t.user_id = u.id AND t.status = 'NOW'),
+                 CURRENT_TIMESTAMP
+          FROM tab_users u
+          WHERE NOT EXISTS (SELECT 1 FROM tab_user_now_slots s WHERE s.user_id = u.id)
+          ON CONFLICT DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertMissing();
+
+  /**
+   * Rewrites counters that drifted from the real NOW task count. Rows touched after {@code
+   * quietSince} are skipped so in-flight reservations are not overwritten.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          UPDATE tab_user_now_slots s
+          SET now_count = (
+                  SELECT COUNT(*) FROM tab_tasks t
+                  WHERE t.user_id = s.user_id AND t.status = 'NOW'),
+              updated_at = CURRENT_TIMESTAMP
+          WHERE s.updated_at < :quietSince
+            AND s.now_count <> (
+                  SELECT COUNT(*) FROM tab_tasks t
+                  WHERE t.user_id = s.user_id AND t.status = 'NOW')
+          """,
+      nativeQuery = true)
+  int reconcile(Timestamp quietSince);
+}
@@ -0,0 +1,11 @@
+package br.com.oriontask.backend.tasks.repository;
+
+import java.util.UUID;
+
+public interface WaitingPromotionCandidate {
+  Long getTaskId();
+
+  UUID getUserId();
+
+  Long getNowCount();
+}
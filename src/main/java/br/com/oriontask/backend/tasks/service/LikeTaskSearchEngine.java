@@ -0,0 +1,38 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.tasks.dto.TaskSearchCursor;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/** Matches the whole query as a substring and scores every match 0, so results are newest first. */
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "like")
+@RequiredArgsConstructor
+public class LikeTaskSearchEngine implements TaskSearchEngine {
+
+  private final TasksRepository repository;
+
+  @Override
+  public List<TaskSearchCursor> findMatches(
+      UUID userId, String query, TaskSearchCursor after, int limit) {
+    String pattern =
+        "%"
+            + query
+                .toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_")
+            + "%";
+    return repository
+        .searchByPatternBefore(userId, pattern, after.id(), PageRequest.ofSize(limit))
+        .stream()
+        .map(id -> new TaskSearchCursor(0f, id))
+        .toList();
+  }
+}
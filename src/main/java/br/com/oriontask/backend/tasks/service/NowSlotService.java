@@ -0,0 +1,113 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.tasks.model.UserNowSlots;
+import br.com.oriontask.backend.tasks.repository.UserNowSlotsRepository;
+import jakarta.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NowSlotService {
+
+  private final UserNowSlotsRepository repository;
+  private final ClusterJobRunner jobRunner;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${task.now-slots.reconciliation.quiet-period-ms:60000}")
+  private long reconciliationQuietPeriodMs;
+
+  @Value("${task.now-slots.reconciliation.interval-ms:3600000}")
+  private long reconciliationIntervalMs;
+
+  public boolean tryReserve(UUID userId, int limit) {
+    if (repository.incrementIfBelow(userId, limit) == 1) {
+      return true;
+    }
+    if (repository.insertIfAbsent(userId) == 0) {
+      return false;
+    }
+    return repository.incrementIfBelow(userId, limit) == 1;
+  }
+
+  /**
+   * Locks the user's counter row until the surrounding transaction ends. Every status change of
+   * the user takes this lock before reading its task, so they run one at a time per user.
+   * Returns the user's NOW count as seen under the lock.
+   */
+  public int lock(UUID userId) {
+    Optional<UserNowSlots> slots = repository.lockByUserId(userId);
+    if (slots.isEmpty()) {
+      repository.insertIfAbsent(userId);
+      slots = repository.lockByUserId(userId);
+    }
+    return slots.map(UserNowSlots::getNowCount).orElse(0);
+  }
+
+  /** Takes up to {@code wanted} free slots in one statement and returns how many it took. */
+  public int reserveUpTo(UUID userId, int limit, int wanted) {
+    int taken = Math.min(wanted, Math.max(0, limit - lock(userId)));
+    if (taken > 0) {
+      repository.incrementAllBy(List.of(userId), taken);
+    }
+    return taken;
+  }
+
+  public void release(UUID userId) {
+    if (repository.decrement(userId) == 0) {
+      log.warn("NowSlotService.release counter already empty userId={}", userId);
+    }
+  }
+
+  public Map<UUID, Integer> lockCounts(Collection<UUID> userIds) {
+    return repository.findByUserIdIn(userIds).stream()
+        .collect(Collectors.toMap(UserNowSlots::getUserId, UserNowSlots::getNowCount));
+  }
+
+  public void reserveAll(Collection<UUID> userIds) {
+    if (!userIds.isEmpty()) {
+      repository.incrementAllBy(userIds, 1);
+    }
+  }
+
+  /** Takes the given number of slots per user, one statement per distinct amount. */
+  public void reserve(Map<UUID, Integer> slotsByUser) {
+    slotsByUser.entrySet().stream()
+        .filter(entry -> entry.getValue() > 0)
+        .collect(
+            Collectors.groupingBy(
+                Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+        .forEach((delta, userIds) -> repository.incrementAllBy(userIds, delta));
+  }
+
+  @Scheduled(fixedDelayString = "${task.now-slots.reconciliation.interval-ms:3600000}")
+  public void scheduledReconcile() {
+    jobRunner.runExclusive(
+        "now-slot-reconciliation",
+        Duration.ofMillis(reconciliationIntervalMs),
+        () -> transactionTemplate.executeWithoutResult(status -> reconcile()));
+  }
+
+  @Transactional
+  public void reconcile() {
+    int created = repository.insertMissing();
+    Timestamp quietSince = new Timestamp(System.currentTimeMillis() - reconciliationQuietPeriodMs);
+    int repaired = repository.reconcile(quietSince);
+    log.info("NowSlotService.reconcile completed created={} repaired={}", created, repaired);
+  }
+}
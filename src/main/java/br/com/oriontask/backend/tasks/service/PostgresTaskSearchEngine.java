@@ -0,0 +1,25 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.tasks.dto.TaskSearchCursor;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresTaskSearchEngine implements TaskSearchEngine {
+
+  private final TasksRepository repository;
+
+  @Override
+  public List<TaskSearchCursor> findMatches(
+      UUID userId, String query, TaskSearchCursor after, int limit) {
+    return repository.searchByScoreBefore(userId, query, after.score(), after.id(), limit).stream()
+        .map(match -> new TaskSearchCursor(match.getScore(), match.getId()))
+        .toList();
+  }
+}
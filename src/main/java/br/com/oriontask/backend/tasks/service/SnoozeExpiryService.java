@@ -0,0 +1,236 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.jobs.model.JobShard;
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.shared.enums.TaskEventType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.event.TaskChangedEvent;
+import br.com.oriontask.backend.tasks.event.TaskSnoozedEvent;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.SnoozeWakeUp;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wakes SNOOZED tasks when their snooze ends. Upcoming wake-ups are kept in an in-memory delay
+ * queue fed by each committed snooze and by a periodic scan of the snoozed_until index, which
+ * catches up after restarts; every tick drains what is due and applies it as bulk updates, into
+ * NOW while the user has free slots and WAITING otherwise. The scan is sharded by user id across
+ * the cluster, so each node only queues the snoozes of the shards it leased.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SnoozeExpiryService {
+
+  /** Shard of wake-ups queued by a committed snooze rather than a scan; never dropped. */
+  static final int UNSHARDED = -1;
+
+  private final TasksRepository repository;
+  private final NowSlotService nowSlots;
+  private final TaskStatusTransitionPolicy statusPolicy;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final ClusterJobRunner jobRunner;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final DelayQueue<PendingWakeUp> timer = new DelayQueue<>();
+  private final Map<Long, PendingWakeUp> scheduled = new ConcurrentHashMap<>();
+
+  @Value("${task.snooze.rescan-interval-ms:300000}")
+  private long rescanIntervalMs;
+
+  @Value("${task.snooze.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${task.snooze.shards:8}")
+  private int shards;
+
+  record PendingWakeUp(Long taskId, long dueAtMillis, int shard) implements Delayed {
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(dueAtMillis, ((PendingWakeUp) other).dueAtMillis);
+    }
+  }
+
+  /**
+   * First run happens at startup; each run covers two intervals so no snooze falls between. Leases
+   * last one interval, so wake-ups of shards another node leased this time are dropped here.
+   */
+  @Scheduled(fixedDelayString = "${task.snooze.rescan-interval-ms:300000}")
+  public void rescanLeasedShards() {
+    Set<Integer> leased = ConcurrentHashMap.newKeySet();
+    jobRunner.runSharded(
+        "snooze-expiry",
+        shards,
+        Duration.ofMillis(rescanIntervalMs),
+        shard -> {
+          rescan(shard);
+          leased.add(shard.index());
+        });
+    scheduled
+        .values()
+        .removeIf(wakeUp -> wakeUp.shard() != UNSHARDED && !leased.contains(wakeUp.shard()));
+  }
+
+  public int rescan(JobShard shard) {
+    Timestamp horizon = new Timestamp(System.currentTimeMillis() + 2 * rescanIntervalMs);
+    List<SnoozeWakeUp> upcoming =
+        repository.findSnoozeWakeUps(
+            TaskStatus.SNOOZED, horizon, shard.fromUserId(), shard.toUserId());
+    jobRunner.checkLease();
+
+    int added = 0;
+    for (SnoozeWakeUp wakeUp : upcoming) {
+      if (schedule(wakeUp.getTaskId(), wakeUp.getSnoozedUntil(), shard.index())) {
+        added++;
+      }
+    }
+    log.info(
+        "SnoozeExpiryService.rescan completed shard={}/{} found={} added={} pending={}",
+        shard.index(),
+        shard.count(),
+        upcoming.size(),
+        added,
+        scheduled.size());
+    return added;
+  }
+
+  @TransactionalEventListener
+  public void onTaskSnoozed(TaskSnoozedEvent event) {
+    schedule(event.taskId(), event.snoozedUntil());
+  }
+
+  public boolean schedule(Long taskId, Timestamp snoozedUntil) {
+    return schedule(taskId, snoozedUntil, UNSHARDED);
+  }
+
+  /** An entry already queued for the same instant is kept, whichever shard it came from. */
+  private boolean schedule(Long taskId, Timestamp snoozedUntil, int shard) {
+    PendingWakeUp wakeUp = new PendingWakeUp(taskId, snoozedUntil.getTime(), shard);
+    PendingWakeUp current =
+        scheduled.merge(
+            taskId,
+            wakeUp,
+            (previous, next) -> previous.dueAtMillis() == next.dueAtMillis() ? previous : next);
+    if (current != wakeUp) {
+      return false;
+    }
+    timer.add(wakeUp);
+    return true;
+  }
+
+  @Scheduled(fixedDelayString = "${task.snooze.tick-ms:1000}")
+  public void tick() {
+    List<PendingWakeUp> expired = new ArrayList<>();
+    timer.drainTo(expired);
+
+    // Entries superseded by a later re-snooze or dropped with their shard are skipped here
+    List<Long> taskIds =
+        expired.stream()
+            .filter(wakeUp -> scheduled.remove(wakeUp.taskId(), wakeUp))
+            .map(PendingWakeUp::taskId)
+            .toList();
+    if (!taskIds.isEmpty()) {
+      wakeUp(taskIds);
+    }
+  }
+
+  public int wakeUp(List<Long> taskIds) {
+    int woken = 0;
+    for (int from = 0; from < taskIds.size(); from += chunkSize) {
+      List<Long> chunk = taskIds.subList(from, Math.min(from + chunkSize, taskIds.size()));
+      Integer updated = transactionTemplate.execute(status -> wakeChunk(chunk));
+      woken += updated == null ? 0 : updated;
+    }
+    log.info("SnoozeExpiryService.wakeUp completed due={} woken={}", taskIds.size(), woken);
+    return woken;
+  }
+
+  /** Same lock order as the request path: counters first, then the task rows, then re-check. */
+  private int wakeChunk(List<Long> taskIds) {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    List<SnoozeWakeUp> due = repository.findDueSnoozeWakeUps(taskIds, TaskStatus.SNOOZED, now);
+    if (due.isEmpty()) {
+      return 0;
+    }
+
+    Map<UUID, Integer> nowCounts =
+        nowSlots.lockCounts(due.stream().map(SnoozeWakeUp::getUserId).distinct().toList());
+    Set<Long> stillDue =
+        new HashSet<>(
+            repository.lockDueSnoozedTaskIds(
+                due.stream().map(SnoozeWakeUp::getTaskId).toList(), now));
+
+    Map<UUID, Integer> freeSlots = new HashMap<>();
+    Map<UUID, Integer> reserved = new HashMap<>();
+    List<Long> toNow = new ArrayList<>();
+    List<Long> toWaiting = new ArrayList<>();
+    List<TaskChangedEvent> events = new ArrayList<>();
+    for (SnoozeWakeUp wakeUp : due) {
+      if (!stillDue.contains(wakeUp.getTaskId())) {
+        continue;
+      }
+      UUID userId = wakeUp.getUserId();
+      Integer nowCount = nowCounts.get(userId);
+      int free =
+          freeSlots.computeIfAbsent(
+              userId, id -> nowCount == null ? 0 : statusPolicy.availableNowSlots(nowCount));
+      TaskStatus wokenStatus;
+      if (free > 0) {
+        toNow.add(wakeUp.getTaskId());
+        freeSlots.put(userId, free - 1);
+        reserved.merge(userId, 1, Integer::sum);
+        wokenStatus = TaskStatus.NOW;
+      } else {
+        toWaiting.add(wakeUp.getTaskId());
+        wokenStatus = TaskStatus.WAITING;
+      }
+      events.add(
+          new TaskChangedEvent(
+              userId, wakeUp.getTaskId(), TaskEventType.STATUS_CHANGED, wokenStatus));
+    }
+
+    int updated = 0;
+    if (!toNow.isEmpty()) {
+      updated += repository.updateStatusByIdIn(toNow, TaskStatus.SNOOZED, TaskStatus.NOW);
+      nowSlots.reserve(reserved);
+    }
+    if (!toWaiting.isEmpty()) {
+      updated += repository.updateStatusByIdIn(toWaiting, TaskStatus.SNOOZED, TaskStatus.WAITING);
+    }
+    meterRegistry.counter("oriontask.snooze.woken", "status", "NOW").increment(toNow.size());
+    meterRegistry
+        .counter("oriontask.snooze.woken", "status", "WAITING")
+        .increment(toWaiting.size());
+    events.forEach(eventPublisher::publishEvent);
+    return updated;
+  }
+}
@@ -0,0 +1,106 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.shared.enums.TaskExportFormat;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportService {
+
+  private static final String CSV_HEADER =
+      "id,dharmaId,title,description,karmaType,effortLevel,status,hidden,completedAt,"
+          + "snoozedUntil,createdAt,updatedAt";
+
+  private final TasksRepository repository;
+  private final TasksMapper tasksMapper;
+  private final JsonMapper jsonMapper;
+  private final EntityManager entityManager;
+
+  /**
+   * Writes every task of the user to {@code output} as it is read. Rows are detached once
+   * written, so neither the persistence context nor the heap grows with the number of tasks.
+   */
+  @Transactional(readOnly = true)
+  public long export(UUID userId, TaskExportFormat format, OutputStream output)
+      throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    if (format == TaskExportFormat.CSV) {
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+
+    long rows = 0;
+    try (Stream<Tasks> tasks = repository.streamByUserId(userId)) {
+      Iterator<Tasks> iterator = tasks.iterator();
+      while (iterator.hasNext()) {
+        Tasks task = iterator.next();
+        TaskDTO row = tasksMapper.toDTO(task);
+        entityManager.detach(task);
+
+        writer.write(
+            format == TaskExportFormat.CSV ? toCsv(row) : jsonMapper.writeValueAsString(row));
+        writer.write('\n');
+        rows++;
+      }
+    }
+    writer.flush();
+
+    log.debug(
+        "TaskExportService.export completed userId={} rows={} format={}", userId, rows, format);
+    return rows;
+  }
+
+  private static String toCsv(TaskDTO task) {
+    return String.join(
+        ",",
+        String.valueOf(task.id()),
+        String.valueOf(task.dharmasId()),
+        csvField(task.title()),
+        csvField(task.description()),
+        String.valueOf(task.karmaType()),
+        String.valueOf(task.effortLevel()),
+        String.valueOf(task.status()),
+        String.valueOf(task.hidden()),
+        timestamp(task.completedAt()),
+        timestamp(task.snoozedUntil()),
+        timestamp(task.createdAt()),
+        timestamp(task.updatedAt()));
+  }
+
+  private static String csvField(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.contains(",")
+        || value.contains("\"")
+        || value.contains("\n")
+        || value.contains("\r")) {
+      return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    return value;
+  }
+
+  private static String timestamp(Timestamp value) {
+    return value == null ? "" : value.toInstant().toString();
+  }
+}
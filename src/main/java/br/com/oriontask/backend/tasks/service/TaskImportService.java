@@ -0,0 +1,279 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.shared.enums.EffortLevel;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import br.com.oriontask.backend.shared.enums.TaskExportFormat;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.tasks.dto.NewTaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskImportErrorDTO;
+import br.com.oriontask.backend.tasks.dto.TaskImportReportDTO;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.LineNumberReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Imports tasks from an NDJSON or CSV upload while it is being read. Rows are inserted in chunks,
+ * each in its own transaction, and a bad row only costs itself: it is reported by line and the
+ * rest of the file carries on. A chunk the database rejects is rolled back and reported whole.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+
+  private static final int MAX_CSV_RECORD_LENGTH = 8192;
+
+  private final TasksRepository repository;
+  private final DharmaLookupService dharmaLookup;
+  private final TasksMapper tasksMapper;
+  private final TaskStatusTransitionPolicy statusPolicy;
+  private final TransactionTemplate transactionTemplate;
+  private final EntityManager entityManager;
+  private final JsonMapper jsonMapper;
+  private final Validator validator;
+
+  @Value("${task.import.chunk-size:500}")
+  private int chunkSize;
+
+  record ImportRow(long line, NewTaskDTO task) {}
+
+  record ChunkResult(int imported, List<TaskImportErrorDTO> errors) {}
+
+  public TaskImportReportDTO importTasks(UUID userId, TaskExportFormat format, InputStream input)
+      throws IOException {
+    log.info("TaskImportService.importTasks requested format={}", format);
+    LineNumberReader reader =
+        new LineNumberReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    boolean csv = format == TaskExportFormat.CSV;
+    Map<String, Integer> columns = csv ? readCsvHeader(reader) : Map.of();
+
+    List<TaskImportErrorDTO> errors = new ArrayList<>();
+    List<ImportRow> chunk = new ArrayList<>(chunkSize);
+    int imported = 0;
+    while (true) {
+      long line = reader.getLineNumber() + 1;
+      String json;
+      List<String> record;
+      try {
+        json = csv ? null : reader.readLine();
+        record = csv ? readCsvRecord(reader) : null;
+      } catch (IllegalArgumentException e) {
+        errors.add(new TaskImportErrorDTO(line, e.getMessage()));
+        continue;
+      }
+      if (csv ? record == null : json == null) {
+        break;
+      }
+      if (csv ? String.join("", record).isBlank() : json.isBlank()) {
+        continue;
+      }
+
+      try {
+        NewTaskDTO task = csv ? fromCsv(columns, record) : parseJson(json);
+        validate(task);
+        chunk.add(new ImportRow(line, task));
+      } catch (IllegalArgumentException e) {
+        errors.add(new TaskImportErrorDTO(line, e.getMessage()));
+      }
+
+      if (chunk.size() == chunkSize) {
+        imported += importChunk(chunk, userId, errors);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      imported += importChunk(chunk, userId, errors);
+    }
+    errors.sort(Comparator.comparingLong(TaskImportErrorDTO::line));
+
+    log.info(
+        "TaskImportService.importTasks completed imported={} failed={}", imported, errors.size());
+    return new TaskImportReportDTO(imported, errors.size(), errors);
+  }
+
+  private int importChunk(List<ImportRow> chunk, UUID userId, List<TaskImportErrorDTO> errors) {
+    try {
+      ChunkResult result = transactionTemplate.execute(status -> insertChunk(chunk, userId));
+      errors.addAll(result.errors());
+      return result.imported();
+    } catch (RuntimeException e) {
+      log.warn(
+          "TaskImportService.importChunk rolled back firstLine={} rows={}",
+          chunk.getFirst().line(),
+          chunk.size(),
+          e);
+      chunk.forEach(
+          row -> errors.add(new TaskImportErrorDTO(row.line(), "Chunk could not be saved")));
+      return 0;
+    }
+  }
+
+  /** One dharma query and one counter update per chunk; inserts go out as JDBC batches. */
+  private ChunkResult insertChunk(List<ImportRow> chunk, UUID userId) {
+    Map<Long, Dharmas> dharmas =
+        dharmaLookup.getDharmas(
+            chunk.stream().map(row -> row.task().dharmasId()).collect(Collectors.toSet()),
+            userId);
+
+    List<TaskImportErrorDTO> errors = new ArrayList<>();
+    List<ImportRow> valid = new ArrayList<>(chunk.size());
+    for (ImportRow row : chunk) {
+      if (dharmas.containsKey(row.task().dharmasId())) {
+        valid.add(row);
+      } else {
+        errors.add(new TaskImportErrorDTO(row.line(), "Dharmas not found"));
+      }
+    }
+
+    int nowSlots = valid.isEmpty() ? 0 : statusPolicy.reserveNowSlots(userId, valid.size());
+    List<Tasks> tasks = new ArrayList<>(valid.size());
+    for (ImportRow row : valid) {
+      Dharmas dharma = dharmas.get(row.task().dharmasId());
+      Tasks task = tasksMapper.toEntity(row.task());
+      task.setDharmas(dharma);
+      task.setUser(dharma.getUser());
+      task.setHidden(dharma.getHidden());
+      task.setStatus(tasks.size() < nowSlots ? TaskStatus.NOW : TaskStatus.WAITING);
+      tasks.add(task);
+    }
+    repository.saveAll(tasks);
+    entityManager.flush();
+    entityManager.clear();
+    return new ChunkResult(tasks.size(), errors);
+  }
+
+  private NewTaskDTO parseJson(String json) {
+    try {
+      return jsonMapper.readValue(json, NewTaskDTO.class);
+    } catch (JacksonException e) {
+      throw new IllegalArgumentException(e.getOriginalMessage(), e);
+    }
+  }
+
+  private void validate(NewTaskDTO task) {
+    if (task.dharmasId() == null) {
+      throw new IllegalArgumentException("dharmasId is required");
+    }
+    if (task.karmaType() == null || task.effortLevel() == null) {
+      throw new IllegalArgumentException("karmaType and effortLevel are required");
+    }
+    if (task.projectId() != null || task.milestoneId() != null) {
+      throw new IllegalArgumentException("projectId and milestoneId are not supported on import");
+    }
+    Set<ConstraintViolation<NewTaskDTO>> violations = validator.validate(task);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(
+          violations.stream()
+              .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+              .sorted()
+              .collect(Collectors.joining("; ")));
+    }
+  }
+
+  private Map<String, Integer> readCsvHeader(LineNumberReader reader) throws IOException {
+    List<String> header = readCsvRecord(reader);
+    if (header == null) {
+      return Map.of();
+    }
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      columns.putIfAbsent(header.get(i).trim(), i);
+    }
+    return columns;
+  }
+
+  /** Same columns as the CSV export; columns the import does not need are ignored. */
+  private NewTaskDTO fromCsv(Map<String, Integer> columns, List<String> record) {
+    return new NewTaskDTO(
+        parse(field(columns, record, "dharmaId"), Long::valueOf),
+        field(columns, record, "title"),
+        field(columns, record, "description"),
+        parse(field(columns, record, "karmaType"), KarmaType::valueOf),
+        parse(field(columns, record, "effortLevel"), EffortLevel::valueOf),
+        null,
+        null);
+  }
+
+  private static String field(Map<String, Integer> columns, List<String> record, String name) {
+    Integer index = columns.get(name);
+    if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+      return null;
+    }
+    return record.get(index);
+  }
+
+  private static <T> T parse(String value, Function<String, T> parser) {
+    return value == null ? null : parser.apply(value.trim());
+  }
+
+  /** Reads one RFC 4180 record, which spans several lines when a quoted field holds line breaks. */
+  private static List<String> readCsvRecord(LineNumberReader reader) throws IOException {
+    String line = reader.readLine();
+    if (line == null) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    while (true) {
+      for (int i = 0; i < line.length(); i++) {
+        char c = line.charAt(i);
+        if (quoted) {
+          if (c != '"') {
+            field.append(c);
+          } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+            field.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else if (c == '"') {
+          quoted = true;
+        } else if (c == ',') {
+          fields.add(field.toString());
+          field.setLength(0);
+        } else {
+          field.append(c);
+        }
+      }
+      if (!quoted) {
+        break;
+      }
+      line = reader.readLine();
+      if (line == null || field.length() > MAX_CSV_RECORD_LENGTH) {
+        throw new IllegalArgumentException("Unterminated quoted field");
+      }
+      field.append('\n');
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+}
@@ -0,0 +1,17 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.tasks.dto.TaskSearchCursor;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Finds the user's tasks matching a free-text query. Selected with {@code app.search.engine}:
+ * {@code postgres} (default) ranks through the tsvector column and its GIN index, {@code like} is
+ * an unranked substring fallback for databases without full-text search, such as H2 in tests.
+ */
+public interface TaskSearchEngine {
+
+  /** Positions of up to {@code limit} matches after {@code after}, best match first. */
+  List<TaskSearchCursor> findMatches(
+      UUID userId, String query, TaskSearchCursor after, int limit);
+}
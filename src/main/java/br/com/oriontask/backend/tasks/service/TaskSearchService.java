@@ -0,0 +1,60 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSearchCursor;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
+import br.com.oriontask.backend.tasks.exception.InvalidSearchQueryException;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchService {
+
+  private static final int MAX_QUERY_LENGTH = 200;
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final TaskSearchEngine searchEngine;
+  private final TasksRepository repository;
+
+  /** Keyset-paged like {@code GET /tasks?cursor}, but ordered by relevance. */
+  @Transactional(readOnly = true)
+  public TaskSliceDTO search(UUID userId, String query, String cursor, int requestedSize) {
+    if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+      throw new InvalidSearchQueryException();
+    }
+    int size = Math.clamp(requestedSize, 1, MAX_PAGE_SIZE);
+    log.debug("TaskSearchService.search requested userId={} size={}", userId, size);
+
+    List<TaskSearchCursor> matches =
+        searchEngine.findMatches(userId, query.trim(), TaskSearchCursor.decode(cursor), size + 1);
+    boolean hasNext = matches.size() > size;
+    List<TaskSearchCursor> page = hasNext ? matches.subList(0, size) : matches;
+
+    Map<Long, TaskDTO> tasks =
+        repository
+            .findDTOsByIdInAndUserId(page.stream().map(TaskSearchCursor::id).toList(), userId)
+            .stream()
+            .collect(Collectors.toMap(TaskDTO::id, Function.identity()));
+    List<TaskDTO> items =
+        page.stream().map(match -> tasks.get(match.id())).filter(Objects::nonNull).toList();
+
+    String nextCursor = hasNext ? page.getLast().encode() : null;
+    log.debug(
+        "TaskSearchService.search completed userId={} returned={} hasNext={}",
+        userId,
+        items.size(),
+        hasNext);
+    return new TaskSliceDTO(items, nextCursor, hasNext);
+  }
+}
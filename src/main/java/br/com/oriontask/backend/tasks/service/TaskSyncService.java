@@ -0,0 +1,162 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.tasks.dto.TaskChangeCursor;
+import br.com.oriontask.backend.tasks.dto.TaskChangesDTO;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TombstoneDTO;
+import br.com.oriontask.backend.tasks.exception.SyncCursorExpiredException;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.model.Tombstone;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.repository.TombstoneRepository;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Change feed for offline clients. Task writes and the delete triggers stamp rows from one
+ * database sequence, so updated tasks and tombstones merge into a single ordered stream.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSyncService {
+
+  private static final int MAX_LIMIT = 1000;
+
+  private final TasksRepository tasksRepository;
+  private final TombstoneRepository tombstoneRepository;
+  private final TasksMapper mapper;
+  private final ClusterJobRunner jobRunner;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${task.sync.tombstone-retention-days:30}")
+  private int retentionDays;
+
+  @Value("${task.sync.compaction.interval-ms:3600000}")
+  private long compactionIntervalMs;
+
+  @Value("${task.sync.compaction.chunk-size:1000}")
+  private int compactionChunkSize;
+
+  /**
+   * Sequence values are taken when a row is written but become visible at commit, so a slower
+   * transaction can surface below a sequence already handed out. The feed stops at the first change
+   * stamped after the database watermark, which is read before the changes themselves, and picks
+   * it up on a later call once every transaction that could commit below it has finished.
+   */
+  @Transactional(readOnly = true)
+  public TaskChangesDTO changesSince(UUID userId, String since, int limit) {
+    TaskChangeCursor cursor = TaskChangeCursor.decode(since);
+    Instant now = Instant.now();
+    if (cursor.issuedAt().isBefore(now.minus(Duration.ofDays(retentionDays)))) {
+      throw new SyncCursorExpiredException();
+    }
+    int size = Math.clamp(limit, 1, MAX_LIMIT);
+    log.debug(
+        "TaskSyncService.changesSince requested userId={} changeSeq={} limit={}",
+        userId,
+        cursor.changeSeq(),
+        size);
+
+    Instant watermark = tasksRepository.findChangeWatermark().toInstant();
+    PageRequest page = PageRequest.ofSize(size + 1);
+    List<Tasks> tasks = tasksRepository.findChangedAfter(userId, cursor.changeSeq(), page);
+    // A first sync has nothing to delete locally
+    List<Tombstone> tombstones =
+        cursor.isInitial()
+            ? List.of()
+            : tombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(
+                userId, cursor.changeSeq(), page);
+
+    List<TaskDTO> changed = new ArrayList<>();
+    List<TombstoneDTO> deleted = new ArrayList<>();
+    long lastSeq = cursor.changeSeq();
+    int nextTask = 0;
+    int nextTombstone = 0;
+    boolean hasMore = false;
+    while (nextTask < tasks.size() || nextTombstone < tombstones.size()) {
+      if (changed.size() + deleted.size() == size) {
+        hasMore = true;
+        break;
+      }
+      boolean taskFirst =
+          nextTombstone == tombstones.size()
+              || (nextTask < tasks.size()
+                  && tasks.get(nextTask).getChangeSeq()
+                      < tombstones.get(nextTombstone).getChangeSeq());
+      if (taskFirst) {
+        Tasks task = tasks.get(nextTask);
+        if (!isFinal(task.getChangedAt(), watermark)) {
+          break;
+        }
+        changed.add(mapper.toDTO(task));
+        lastSeq = task.getChangeSeq();
+        nextTask++;
+      } else {
+        Tombstone tombstone = tombstones.get(nextTombstone);
+        if (!isFinal(tombstone.getDeletedAt(), watermark)) {
+          break;
+        }
+        deleted.add(
+            new TombstoneDTO(
+                tombstone.getEntityType(), tombstone.getEntityId(), tombstone.getDeletedAt()));
+        lastSeq = tombstone.getChangeSeq();
+        nextTombstone++;
+      }
+    }
+
+    String nextCursor = new TaskChangeCursor(lastSeq, now).encode();
+    log.debug(
+        "TaskSyncService.changesSince completed userId={} changed={} deleted={} hasMore={}",
+        userId,
+        changed.size(),
+        deleted.size(),
+        hasMore);
+    return new TaskChangesDTO(changed, deleted, nextCursor, hasMore);
+  }
+
+  private static boolean isFinal(Timestamp changedAt, Instant watermark) {
+    return changedAt == null || changedAt.toInstant().isBefore(watermark);
+  }
+
+  @Scheduled(fixedDelayString = "${task.sync.compaction.interval-ms:3600000}")
+  public void scheduledCompaction() {
+    jobRunner.runExclusive(
+        "tombstone-compaction", Duration.ofMillis(compactionIntervalMs), this::compactTombstones);
+  }
+
+  /**
+   * Drops tombstones past the retention period in short transactions. Cursors old enough to need
+   * them are refused by {@link #changesSince}, so those clients resync from scratch. One extra day
+   * keeps tombstones written just after a cursor was issued until that cursor has expired.
+   */
+  public int compactTombstones() {
+    Timestamp cutoff = Timestamp.from(Instant.now().minus(Duration.ofDays(retentionDays + 1L)));
+    int purged = 0;
+    int deleted;
+    do {
+      jobRunner.checkLease();
+      Integer chunk =
+          transactionTemplate.execute(
+              status -> tombstoneRepository.deleteOlderThan(cutoff, compactionChunkSize));
+      deleted = chunk == null ? 0 : chunk;
+      purged += deleted;
+    } while (deleted == compactionChunkSize);
+    log.info("TaskSyncService.compactTombstones completed purged={} cutoff={}", purged, cutoff);
+    return purged;
+  }
+}
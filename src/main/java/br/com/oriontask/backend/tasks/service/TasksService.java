@@ -1,49 +1,74 @@
 package br.com.oriontask.backend.tasks.service;
 
 import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.projects.model.Projects;
+import br.com.oriontask.backend.shared.enums.TaskBatchOperationType;
+import br.com.oriontask.backend.shared.enums.TaskEventType;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
 import br.com.oriontask.backend.tasks.dto.NewTaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskBatchOperationDTO;
+import br.com.oriontask.backend.tasks.dto.TaskBatchResultDTO;
+import br.com.oriontask.backend.tasks.dto.TaskCursor;
 import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
 import br.com.oriontask.backend.tasks.dto.UpdateTaskDTO;
+import br.com.oriontask.backend.tasks.event.TaskChangedEvent;
+import br.com.oriontask.backend.tasks.event.TaskSnoozedEvent;
 import br.com.oriontask.backend.tasks.mapper.TasksMapper;
 import br.com.oriontask.backend.tasks.model.Tasks;
 import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
 import br.com.oriontask.backend.tasks.repository.TasksRepository;
-import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TasksService {
 
+  public static final int MAX_PAGE_SIZE = 100;
+
   private final TasksRepository repository;
   private final DharmaLookupService dharmaLookup;
+  private final ProjectLookupService projectLookup;
   private final TasksMapper tasksMapper;
 
   private final TaskStatusTransitionPolicy statusPolicy;
+  private final ApplicationEventPublisher eventPublisher;
+  private final KarmaActivityRecorder karmaActivity;
+  private final ProjectProgressRecorder projectProgress;
 
+  @Transactional
   public TaskDTO create(NewTaskDTO createDTO, UUID userId) {
     Long dharmasId = createDTO.dharmasId();
 
     log.info("TasksService.create requested dharmasId={}", dharmasId);
     Dharmas dharmas = dharmaLookup.getRequiredDharma(dharmasId, userId);
 
-    Tasks task = tasksMapper.toEntity(createDTO);
-    task.setDharmas(dharmas);
-    task.setUser(dharmas.getUser());
-    task.setHidden(dharmas.getHidden());
-    Long currentNowCount = getCurrentTasksCount(userId);
-    task.setStatus(currentNowCount < 5 ? TaskStatus.NOW : TaskStatus.WAITING);
+    Tasks task = buildTask(createDTO, dharmas, userId);
 
     TaskDTO result = tasksMapper.toDTO(repository.save(task));
+    publish(userId, TaskEventType.CREATED, task);
     log.info("TasksService.create completed taskId={} dharmasId={}", result.id(), dharmasId);
     return result;
   }
@@ -52,10 +77,10 @@ public class TasksService {
   public TaskDTO updateTask(UpdateTaskDTO editDTO, Long taskId, UUID userId) {
     log.info("TasksService.updateTask requested taskId={}", taskId);
     Tasks task = getTaskById(taskId, userId);
-    statusPolicy.ensureStatusChangeAllowed(task);
 
-    task = tasksMapper.partialUpdate(editDTO, task);
+    task = applyUpdate(task, editDTO);
     TaskDTO result = tasksMapper.toDTO(repository.save(task));
+    publish(userId, TaskEventType.UPDATED, task);
     log.info("TasksService.updateTask completed taskId={}", taskId);
     return result;
   }
@@ -63,34 +88,25 @@ public class TasksService {
   @Transactional
   public TaskDTO moveToNow(Long taskId, UUID userId) {
     log.info("TasksService.moveToNow requested taskId={}", taskId);
-    Tasks task = getTaskById(taskId, userId);
+    Tasks task = getTaskForStatusChange(taskId, userId);
 
-    statusPolicy.ensureStatusChangeAllowed(task);
-    Long currentCount = getCurrentTasksCount(userId);
-
-    statusPolicy.ensureNowLimitNotExceeded(currentCount, null);
-    statusPolicy.markAsNow(task);
+    applyMoveToNow(task);
 
     TaskDTO result = tasksMapper.toDTO(repository.save(task));
+    publish(userId, TaskEventType.STATUS_CHANGED, task);
     log.info("TasksService.moveToNow completed taskId={}", taskId);
     return result;
   }
 
   @Transactional
-  @SuppressWarnings("deprecation")
   public TaskDTO changeStatus(Long taskId, TaskStatus newStatus, UUID userId) {
     log.info("TasksService.changeStatus requested taskId={} newStatus={}", taskId, newStatus);
-    Tasks task = getTaskById(taskId, userId);
-
-    statusPolicy.ensureStatusChangeAllowed(task);
-    TaskStatus normalizedStatus = newStatus == TaskStatus.NEXT ? TaskStatus.WAITING : newStatus;
-
-    Long currentCount = getCurrentTasksCount(task.getDharmas().getUser().getId());
+    Tasks task = getTaskForStatusChange(taskId, userId);
 
-    statusPolicy.ensureNowLimitNotExceeded(currentCount, normalizedStatus);
-    statusPolicy.applyStatusTransition(task, normalizedStatus);
+    TaskStatus normalizedStatus = applyChangeStatus(task, newStatus, userId);
 
     TaskDTO result = tasksMapper.toDTO(repository.save(task));
+    publish(userId, TaskEventType.STATUS_CHANGED, task);
     log.info(
         "TasksService.changeStatus completed taskId={} requestedStatus={} appliedStatus={}",
         taskId,
@@ -102,12 +118,12 @@ public class TasksService {
   @Transactional
   public TaskDTO snoozeTask(Long taskId, UUID userId) {
     log.info("TasksService.snoozeTask requested taskId={}", taskId);
-    Tasks task = getTaskById(taskId, userId);
+    Tasks task = getTaskForStatusChange(taskId, userId);
 
-    statusPolicy.ensureStatusChangeAllowed(task);
-    statusPolicy.snoozeTask(task);
+    applySnooze(task);
 
     TaskDTO result = tasksMapper.toDTO(repository.save(task));
+    publish(userId, TaskEventType.STATUS_CHANGED, task);
     log.info("TasksService.snoozeTask completed taskId={}", taskId);
     return result;
   }
@@ -115,14 +131,53 @@ public class TasksService {
   @Transactional
   public TaskDTO markAsDone(Long taskId, UUID userId) {
     log.info("TasksService.markAsDone requested taskId={}", taskId);
-    Tasks task = getTaskById(taskId, userId);
+    Tasks task = getTaskForStatusChange(taskId, userId);
 
-    statusPolicy.markAsDone(task);
+    applyMarkAsDone(task, userId);
     TaskDTO result = tasksMapper.toDTO(repository.save(task));
+    publish(userId, TaskEventType.STATUS_CHANGED, task);
     log.info("TasksService.markAsDone completed taskId={}", taskId);
     return result;
   }
 
+  /**
+   * Applies queued edits in order, all or nothing. Referenced tasks are loaded up front and changed
+   * in memory, so the resulting inserts and updates reach the database as JDBC batches on flush.
+   */
+  @Transactional
+  public List<TaskBatchResultDTO> applyBatch(List<TaskBatchOperationDTO> operations, UUID userId) {
+    log.info("TasksService.applyBatch requested operations={}", operations.size());
+    statusPolicy.lockNowSlots(userId);
+    Set<Long> taskIds =
+        operations.stream()
+            .map(TaskBatchOperationDTO::taskId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    Map<Long, Tasks> tasks =
+        repository.findByIdInAndUserId(taskIds, userId).stream()
+            .collect(Collectors.toMap(Tasks::getId, Function.identity()));
+    Map<Long, Dharmas> dharmas = new HashMap<>();
+
+    List<TaskBatchResultDTO> results = new ArrayList<>(operations.size());
+    for (int index = 0; index < operations.size(); index++) {
+      TaskBatchOperationDTO operation = operations.get(index);
+      try {
+        results.add(applyOperation(index, operation, tasks, dharmas, userId));
+      } catch (RuntimeException e) {
+        log.warn(
+            "TasksService.applyBatch failed index={} type={} taskId={}",
+            index,
+            operation.type(),
+            operation.taskId());
+        throw e;
+      }
+    }
+
+    log.info("TasksService.applyBatch completed operations={}", results.size());
+    return results;
+  }
+
+  @Transactional(readOnly = true)
   public Page<TaskDTO> listTasks(
       UUID userId, Long dharmasId, TaskStatus status, Pageable pageable) {
     log.debug(
@@ -133,7 +188,7 @@ public class TasksService {
         pageable.getPageNumber(),
         pageable.getPageSize());
 
-    Page<Tasks> page;
+    Page<TaskDTO> page;
 
     if (dharmasId != null && status != null) {
       page = repository.findByUserIdAndDharmasIdAndStatus(userId, dharmasId, status, pageable);
@@ -145,55 +200,260 @@ public class TasksService {
       page = repository.findByUserId(userId, pageable);
     }
 
-    Page<TaskDTO> result = page.map(tasksMapper::toDTO);
     log.debug(
         "TasksService.listTasks completed userId={} dharmasId={} status={} returned={}",
         userId,
         dharmasId,
         status,
-        result.getNumberOfElements());
+        page.getNumberOfElements());
+    return page;
+  }
+
+  /** Read before the listing itself, so a concurrent write can only leave the tag stale. */
+  @Transactional(readOnly = true)
+  public String getListingETag(UUID userId) {
+    return repository.findListingVersionByUserId(userId).etag();
+  }
+
+  @Transactional(readOnly = true)
+  public TaskSliceDTO listTasksByCursor(
+      UUID userId, Long dharmasId, TaskStatus status, String cursor, int size) {
+    log.debug(
+        "TasksService.listTasksByCursor requested userId={} dharmasId={} status={} size={}",
+        userId,
+        dharmasId,
+        status,
+        size);
+
+    TaskCursor position = TaskCursor.decode(cursor);
+    Pageable limit = PageRequest.ofSize(Math.clamp(size, 1, MAX_PAGE_SIZE));
+    Slice<TaskDTO> slice;
+
+    if (dharmasId != null && status != null) {
+      slice =
+          repository.findByUserIdAndDharmasIdAndStatusBefore(
+              userId, dharmasId, status, position.createdAt(), position.id(), limit);
+    } else if (dharmasId != null) {
+      slice =
+          repository.findByUserIdAndDharmasIdBefore(
+              userId, dharmasId, position.createdAt(), position.id(), limit);
+    } else if (status != null) {
+      slice =
+          repository.findByUserIdAndStatusBefore(
+              userId, status, position.createdAt(), position.id(), limit);
+    } else {
+      slice = repository.findByUserIdBefore(userId, position.createdAt(), position.id(), limit);
+    }
+
+    TaskSliceDTO result = toSliceDTO(slice);
+    log.debug(
+        "TasksService.listTasksByCursor completed userId={} returned={} hasNext={}",
+        userId,
+        result.items().size(),
+        result.hasNext());
+    return result;
+  }
+
+  /** Keyset listing of every task not yet DONE, newest first. */
+  public TaskSliceDTO listOpenTasksByCursor(UUID userId, Long dharmasId, String cursor, int size) {
+    log.debug(
+        "TasksService.listOpenTasksByCursor requested userId={} dharmasId={} size={}",
+        userId,
+        dharmasId,
+        size);
+
+    TaskCursor position = TaskCursor.decode(cursor);
+    Pageable limit = PageRequest.ofSize(Math.clamp(size, 1, MAX_PAGE_SIZE));
+    Slice<TaskDTO> slice =
+        dharmasId == null
+            ? repository.findOpenByUserIdBefore(userId, position.createdAt(), position.id(), limit)
+            : repository.findOpenByUserIdAndDharmasIdBefore(
+                userId, dharmasId, position.createdAt(), position.id(), limit);
+
+    TaskSliceDTO result = toSliceDTO(slice);
+    log.debug(
+        "TasksService.listOpenTasksByCursor completed userId={} returned={} hasNext={}",
+        userId,
+        result.items().size(),
+        result.hasNext());
     return result;
   }
 
+  private TaskSliceDTO toSliceDTO(Slice<TaskDTO> slice) {
+    List<TaskDTO> tasks = slice.getContent();
+    String nextCursor = null;
+    if (slice.hasNext()) {
+      TaskDTO last = tasks.getLast();
+      nextCursor = new TaskCursor(last.createdAt(), last.id()).encode();
+    }
+    return new TaskSliceDTO(tasks, nextCursor, slice.hasNext());
+  }
+
   @Transactional
   public void deleteTask(Long taskId, UUID userId) {
     log.info("TasksService.deleteTask requested taskId={}", taskId);
-    Tasks task = getTaskById(taskId, userId);
+    Tasks task = getTaskForStatusChange(taskId, userId);
 
-    statusPolicy.ensureStatusChangeAllowed(task, true);
+    applyDelete(task);
+    publishDeleted(userId, taskId);
+    log.info("TasksService.deleteTask completed taskId={}", taskId);
+  }
+
+  private TaskBatchResultDTO applyOperation(
+      int index,
+      TaskBatchOperationDTO operation,
+      Map<Long, Tasks> tasks,
+      Map<Long, Dharmas> dharmas,
+      UUID userId) {
+    TaskBatchOperationType type = operation.type();
+
+    if (type == TaskBatchOperationType.CREATE) {
+      NewTaskDTO createDTO = requireField(index, operation.create(), "create");
+      Dharmas target =
+          dharmas.computeIfAbsent(
+              createDTO.dharmasId(), id -> dharmaLookup.getRequiredDharma(id, userId));
+      Tasks created = repository.save(buildTask(createDTO, target, userId));
+      publish(userId, TaskEventType.CREATED, created);
+      return new TaskBatchResultDTO(index, type, created.getId(), tasksMapper.toDTO(created));
+    }
+
+    Long taskId = requireField(index, operation.taskId(), "taskId");
+    Tasks task = tasks.get(taskId);
+    if (task == null) {
+      throw new IllegalArgumentException("Operation " + index + ": Task not found");
+    }
+
+    switch (type) {
+      case UPDATE -> applyUpdate(task, requireField(index, operation.update(), "update"));
+      case NOW -> applyMoveToNow(task);
+      case SNOOZE -> applySnooze(task);
+      case DONE -> applyMarkAsDone(task, userId);
+      case CHANGE_STATUS ->
+          applyChangeStatus(task, requireField(index, operation.status(), "status"), userId);
+      case DELETE -> {
+        applyDelete(task);
+        tasks.remove(taskId);
+        publishDeleted(userId, taskId);
+        return new TaskBatchResultDTO(index, type, taskId, null);
+      }
+      default -> throw new IllegalArgumentException("Operation " + index + ": unsupported type");
+    }
+    TaskEventType eventType =
+        type == TaskBatchOperationType.UPDATE
+            ? TaskEventType.UPDATED
+            : TaskEventType.STATUS_CHANGED;
+    publish(userId, eventType, task);
+    return new TaskBatchResultDTO(index, type, taskId, tasksMapper.toDTO(task));
+  }
+
+  private <T> T requireField(int index, T value, String field) {
+    if (value == null) {
+      throw new IllegalArgumentException("Operation " + index + ": " + field + " is required");
+    }
+    return value;
+  }
+
+  private Tasks buildTask(NewTaskDTO createDTO, Dharmas dharmas, UUID userId) {
+    Tasks task = tasksMapper.toEntity(createDTO);
+    task.setDharmas(dharmas);
+    task.setUser(dharmas.getUser());
+    task.setHidden(dharmas.getHidden());
+    assignProject(task, createDTO, userId);
+    task.setStatus(statusPolicy.initialStatusFor(userId));
+    adjustProjectProgress(task, 1, 0);
+    return task;
+  }
+
+  private void assignProject(Tasks task, NewTaskDTO createDTO, UUID userId) {
+    if (createDTO.projectId() == null) {
+      if (createDTO.milestoneId() != null) {
+        throw new IllegalArgumentException("milestoneId requires projectId");
+      }
+      return;
+    }
+    Projects project =
+        projectLookup.getAssignableProject(
+            createDTO.projectId(), task.getDharmas().getId(), userId);
+    task.setProject(project);
+    if (createDTO.milestoneId() != null) {
+      task.setMilestone(
+          projectLookup.getRequiredMilestone(createDTO.milestoneId(), project.getId()));
+    }
+  }
+
+  private Tasks applyUpdate(Tasks task, UpdateTaskDTO editDTO) {
+    statusPolicy.ensureStatusChangeAllowed(task);
+    return tasksMapper.partialUpdate(editDTO, task);
+  }
+
+  private void applyMoveToNow(Tasks task) {
+    statusPolicy.ensureStatusChangeAllowed(task);
+    statusPolicy.markAsNow(task);
+  }
+
+  @SuppressWarnings("deprecation")
+  private TaskStatus applyChangeStatus(Tasks task, TaskStatus newStatus, UUID userId) {
+    statusPolicy.ensureStatusChangeAllowed(task);
+    TaskStatus normalizedStatus = newStatus == TaskStatus.NEXT ? TaskStatus.WAITING : newStatus;
 
+    statusPolicy.applyStatusTransition(task, normalizedStatus);
+    if (normalizedStatus == TaskStatus.DONE) {
+      recordCompletion(task, userId);
+    }
+    return normalizedStatus;
+  }
+
+  private void applyMarkAsDone(Tasks task, UUID userId) {
+    statusPolicy.markAsDone(task);
+    recordCompletion(task, userId);
+  }
+
+  private void applySnooze(Tasks task) {
+    statusPolicy.ensureStatusChangeAllowed(task);
+    statusPolicy.snoozeTask(task);
+  }
+
+  private void applyDelete(Tasks task) {
+    statusPolicy.ensureStatusChangeAllowed(task, true);
+    statusPolicy.releaseNowSlot(task);
+    // DONE tasks cannot be deleted, so only the total moves
+    adjustProjectProgress(task, -1, 0);
     repository.delete(task);
-    log.info("TasksService.deleteTask completed taskId={}", taskId);
   }
 
-  @Transactional
-  @Scheduled(fixedDelayString = "${task.waiting-promotion.interval-ms:600000}")
-  public void promoteRecentWaitingTasksToNow() {
-    repository
-        .findDistinctUserIdsByStatus(TaskStatus.WAITING)
-        .forEach(
-            userId -> {
-              Long currentCount = getCurrentTasksCount(userId);
-              if (currentCount >= 5) {
-                return;
-              }
-
-              repository
-                  .findFirstByUserIdAndStatusOrderByCreatedAtDesc(userId, TaskStatus.WAITING)
-                  .ifPresent(
-                      waitingTask -> {
-                        statusPolicy.markAsNow(waitingTask);
-                        repository.save(waitingTask);
-                        log.info(
-                            "TasksService.promoteRecentWaitingTasksToNow promoted taskId={} userId={}",
-                            waitingTask.getId(),
-                            userId);
-                      });
-            });
+  private void recordCompletion(Tasks task, UUID userId) {
+    karmaActivity.recordCompletion(userId, task.getKarmaType());
+    adjustProjectProgress(task, 0, 1);
+  }
+
+  /**
+   * Runs after the NOW slot counter and the task row are locked, the order every transition uses,
+   * so the project and milestone rows are always locked last.
+   */
+  private void adjustProjectProgress(Tasks task, int totalDelta, int completedDelta) {
+    if (task.getProject() == null) {
+      return;
+    }
+    Long milestoneId = task.getMilestone() == null ? null : task.getMilestone().getId();
+    projectProgress.adjustProgress(
+        task.getProject().getId(), milestoneId, totalDelta, completedDelta);
+  }
+
+  private void publish(UUID userId, TaskEventType type, Tasks task) {
+    eventPublisher.publishEvent(new TaskChangedEvent(userId, task.getId(), type, task.getStatus()));
+    if (type == TaskEventType.STATUS_CHANGED && task.getStatus() == TaskStatus.SNOOZED) {
+      eventPublisher.publishEvent(
+          new TaskSnoozedEvent(userId, task.getId(), task.getSnoozedUntil()));
+    }
+  }
+
+  private void publishDeleted(UUID userId, Long taskId) {
+    eventPublisher.publishEvent(new TaskChangedEvent(userId, taskId, TaskEventType.DELETED, null));
   }
 
-  private Long getCurrentTasksCount(UUID userId) {
-    return repository.countByDharmasUserIdAndStatus(userId, TaskStatus.NOW);
+  private Tasks getTaskForStatusChange(Long taskId, UUID userId) {
+    statusPolicy.lockNowSlots(userId);
+    return getTaskById(taskId, userId);
   }
 
   private Tasks getTaskById(Long taskId, UUID userId) {
@@ -0,0 +1,137 @@
+package br.com.oriontask.backend.tasks.service;
+
+import br.com.oriontask.backend.jobs.model.JobShard;
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.shared.enums.TaskEventType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.event.TaskChangedEvent;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.repository.WaitingPromotionCandidate;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingPromotionService {
+
+  private final TasksRepository repository;
+  private final NowSlotService nowSlots;
+  private final TaskStatusTransitionPolicy statusPolicy;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final ClusterJobRunner jobRunner;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${task.waiting-promotion.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${task.waiting-promotion.shards:8}")
+  private int shards;
+
+  @Value("${task.waiting-promotion.interval-ms:600000}")
+  private long intervalMs;
+
+  public record RunMetrics(int usersScanned, int promoted, long durationMs) {}
+
+  @Scheduled(fixedDelayString = "${task.waiting-promotion.interval-ms:600000}")
+  public void promoteRecentWaitingTasksToNow() {
+    jobRunner.runSharded("waiting-promotion", shards, Duration.ofMillis(intervalMs), this::run);
+  }
+
+  public RunMetrics run(JobShard shard) {
+    long startedAt = System.nanoTime();
+
+    List<WaitingPromotionCandidate> candidates =
+        repository.findWaitingPromotionCandidates(shard.fromUserId(), shard.toUserId());
+    List<WaitingPromotionCandidate> eligible =
+        candidates.stream()
+            .filter(candidate -> statusPolicy.hasNowCapacity(candidate.getNowCount()))
+            .toList();
+
+    int promoted = 0;
+    for (int from = 0; from < eligible.size(); from += chunkSize) {
+      List<WaitingPromotionCandidate> chunk =
+          eligible.subList(from, Math.min(from + chunkSize, eligible.size()));
+      jobRunner.checkLease();
+      Integer updated = transactionTemplate.execute(status -> promoteChunk(chunk));
+      promoted += updated == null ? 0 : updated;
+    }
+
+    long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    RunMetrics metrics = new RunMetrics(candidates.size(), promoted, durationMs);
+    publish(metrics);
+    log.info(
+        "WaitingPromotionService.run completed shard={}/{} usersScanned={} promoted={}"
+            + " durationMs={}",
+        shard.index(),
+        shard.count(),
+        metrics.usersScanned(),
+        metrics.promoted(),
+        metrics.durationMs());
+    return metrics;
+  }
+
+  /**
+   * Counter rows are locked before task rows, the same order the request path uses, and both are
+   * re-checked under the lock since the candidate scan ran without one.
+   */
+  private int promoteChunk(List<WaitingPromotionCandidate> chunk) {
+    Map<UUID, Integer> nowCounts =
+        nowSlots.lockCounts(chunk.stream().map(WaitingPromotionCandidate::getUserId).toList());
+    Set<Long> stillWaiting =
+        new HashSet<>(
+            repository.lockWaitingTaskIds(
+                chunk.stream().map(WaitingPromotionCandidate::getTaskId).toList()));
+
+    List<WaitingPromotionCandidate> promotable =
+        chunk.stream()
+            .filter(candidate -> stillWaiting.contains(candidate.getTaskId()))
+            .filter(
+                candidate ->
+                    nowCounts.containsKey(candidate.getUserId())
+                        && statusPolicy.hasNowCapacity(nowCounts.get(candidate.getUserId())))
+            .toList();
+    if (promotable.isEmpty()) {
+      return 0;
+    }
+
+    int updated =
+        repository.updateStatusByIdIn(
+            promotable.stream().map(WaitingPromotionCandidate::getTaskId).toList(),
+            TaskStatus.WAITING,
+            TaskStatus.NOW);
+    nowSlots.reserveAll(promotable.stream().map(WaitingPromotionCandidate::getUserId).toList());
+    promotable.forEach(
+        candidate ->
+            eventPublisher.publishEvent(
+                new TaskChangedEvent(
+                    candidate.getUserId(),
+                    candidate.getTaskId(),
+                    TaskEventType.STATUS_CHANGED,
+                    TaskStatus.NOW)));
+    return updated;
+  }
+
+  private void publish(RunMetrics metrics) {
+    meterRegistry.counter("oriontask.promotion.users.scanned").increment(metrics.usersScanned());
+    meterRegistry.counter("oriontask.promotion.tasks.promoted").increment(metrics.promoted());
+    meterRegistry
+        .timer("oriontask.promotion.duration")
+        .record(metrics.durationMs(), TimeUnit.MILLISECONDS);
+  }
+}
@@ -1,9 +1,12 @@
 package br.com.oriontask.backend.users.controller;
 
+import br.com.oriontask.backend.karma.dto.ActivityLogDTO;
+import br.com.oriontask.backend.karma.service.KarmaActivityService;
 import br.com.oriontask.backend.users.dto.UpdateUserDTO;
 import br.com.oriontask.backend.users.dto.UserResponseDTO;
 import br.com.oriontask.backend.users.service.UsersService;
 import jakarta.validation.Valid;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UsersController {
   private final UsersService service;
+  private final KarmaActivityService karmaActivityService;
 
   @GetMapping("me")
   public ResponseEntity<UserResponseDTO> list(Authentication authentication) {
@@ -29,4 +33,11 @@ public class UsersController {
       @Valid @RequestBody UpdateUserDTO dto, Authentication authentication) {
     return ResponseEntity.ok(service.updateProfile(dto, authentication));
   }
+
+  /** Completions per karma type for today and this week, read from the daily counters. */
+  @GetMapping("/me/activity-log")
+  public ResponseEntity<ActivityLogDTO> activityLog(Authentication authentication) {
+    UUID userId = UUID.fromString(authentication.getName());
+    return ResponseEntity.ok(karmaActivityService.getActivityLog(userId));
+  }
 }
@@ -0,0 +1,5 @@
+package br.com.oriontask.backend.users.dto;
+
+import java.util.UUID;
+
+public record UserIdentity(UUID id, String email, Boolean isConfirmed) {}
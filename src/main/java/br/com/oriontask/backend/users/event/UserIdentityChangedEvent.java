@@ -0,0 +1,6 @@
+package br.com.oriontask.backend.users.event;
+
+import java.util.UUID;
+
+/** Published when a user's email, password or confirmation changes; evicts the cached identity. */
+public record UserIdentityChangedEvent(UUID userId) {}
@@ -1,9 +1,11 @@
 package br.com.oriontask.backend.users.repository;
 
+import br.com.oriontask.backend.users.dto.UserIdentity;
 import br.com.oriontask.backend.users.model.Users;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UsersRepository extends JpaRepository<Users, UUID> {
   Optional<Users> findByEmail(String email);
@@ -11,4 +13,12 @@ public interface UsersRepository extends JpaRepository<Users, UUID> {
   Optional<Users> findByConfirmationToken(String token);
 
   boolean existsByEmail(String email);
+
+  @Query(
+      """
+      SELECT new br.com.oriontask.backend.users.dto.UserIdentity(u.id, u.email, u.isConfirmed)
+      FROM Users u
+      WHERE u.id = :id
+      """)
+  Optional<UserIdentity> findIdentityById(UUID id);
 }
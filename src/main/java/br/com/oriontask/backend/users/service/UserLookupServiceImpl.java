@@ -1,25 +1,66 @@
 package br.com.oriontask.backend.users.service;
 
+import br.com.oriontask.backend.shared.utils.CacheNames;
 import br.com.oriontask.backend.shared.utils.UserLookupService;
+import br.com.oriontask.backend.users.dto.UserIdentity;
+import br.com.oriontask.backend.users.event.UserIdentityChangedEvent;
 import br.com.oriontask.backend.users.exception.UserLookupExceptionImpl;
 import br.com.oriontask.backend.users.model.Users;
 import br.com.oriontask.backend.users.repository.UsersRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserLookupServiceImpl implements UserLookupService {
   private final UsersRepository usersRepository;
+  private final CacheManager cacheManager;
+  private final MeterRegistry meterRegistry;
 
   @Override
   public Users getRequiredUser(UUID userId) {
     log.debug("UserLookupService.getRequiredUser requested userId={}", userId);
+    Cache cache = cacheManager.getCache(CacheNames.USERS);
+    UserIdentity identity = cache == null ? null : cache.get(userId.toString(), UserIdentity.class);
+    if (identity != null) {
+      meterRegistry.counter("oriontask.users.lookup", "result", "hit").increment();
+    } else {
+      meterRegistry.counter("oriontask.users.lookup", "result", "miss").increment();
+      identity = cache == null ? loadIdentity(userId) : loadThrough(cache, userId);
+    }
+
+    return Users.builder()
+        .id(identity.id())
+        .email(identity.email())
+        .isConfirmed(identity.isConfirmed())
+        .build();
+  }
+
+  /**
+   * Fills the cache through its loader rather than a separate put, so a load that raced an
+   * identity change is not written back after the eviction.
+   */
+  private UserIdentity loadThrough(Cache cache, UUID userId) {
+    try {
+      return cache.get(userId.toString(), () -> loadIdentity(userId));
+    } catch (Cache.ValueRetrievalException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private UserIdentity loadIdentity(UUID userId) {
     return usersRepository
-        .findById(userId)
+        .findIdentityById(userId)
         .orElseThrow(
             () -> {
               log.warn("UserLookupService.getRequiredUser user not found userId={}", userId);
@@ -27,6 +68,18 @@ public class UserLookupServiceImpl implements UserLookupService {
             });
   }
 
+  @Override
+  public Users getRequiredProfile(UUID userId) {
+    log.debug("UserLookupService.getRequiredProfile requested userId={}", userId);
+    return usersRepository
+        .findById(userId)
+        .orElseThrow(
+            () -> {
+              log.warn("UserLookupService.getRequiredProfile user not found userId={}", userId);
+              return new UserLookupExceptionImpl();
+            });
+  }
+
   @Override
   public Users getByEmail(String email) {
     log.debug("UserLookupService.getByEmail requested email={}", email);
@@ -48,4 +101,12 @@ public class UserLookupServiceImpl implements UserLookupService {
     }
     return exists;
   }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserIdentityChanged(UserIdentityChangedEvent event) {
+    Cache cache = cacheManager.getCache(CacheNames.USERS);
+    if (cache != null) {
+      cache.evict(event.userId().toString());
+    }
+  }
 }
@@ -2,6 +2,7 @@ package br.com.oriontask.backend.users.service;
 
 import br.com.oriontask.backend.users.dto.UpdateUserDTO;
 import br.com.oriontask.backend.users.dto.UserResponseDTO;
+import br.com.oriontask.backend.users.event.UserIdentityChangedEvent;
 import br.com.oriontask.backend.users.exception.UserNotFoundException;
 import br.com.oriontask.backend.users.mapper.UsersMapper;
 import br.com.oriontask.backend.users.model.Users;
@@ -10,6 +11,7 @@ import jakarta.transaction.Transactional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 public class UsersService {
   private final UsersRepository repository;
   private final UsersMapper mapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   public UserResponseDTO getMe(Authentication authentication) {
     UUID userId = UUID.fromString(authentication.getName());
@@ -43,6 +46,7 @@ public class UsersService {
 
     user = mapper.partialUpdate(dto, user);
     user = repository.save(user);
+    eventPublisher.publishEvent(new UserIdentityChangedEvent(userId));
     log.info("UsersService.update completed userId={}", userId);
 
     return mapper.toDTO(user);
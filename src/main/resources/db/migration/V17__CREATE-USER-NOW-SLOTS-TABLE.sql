@@ -0,0 +1,17 @@
+-- Maintained per-user count of NOW tasks, so the NOW limit check never scans tab_tasks
+CREATE TABLE tab_user_now_slots (
+    user_id UUID PRIMARY KEY,
+    now_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_now_slots_user
+        FOREIGN KEY (user_id)
+            REFERENCES tab_users(id)
+            ON DELETE CASCADE
+);
+
+-- Backfill from the current task state
+INSERT INTO tab_user_now_slots (user_id, now_count)
+SELECT u.id, COUNT(t.id)
+FROM tab_users u
+LEFT JOIN tab_tasks t ON t.user_id = u.id AND t.status = 'NOW'
+GROUP BY u.id;
@@ -0,0 +1,17 @@
+-- Composite indexes matching the task access patterns: every listing filters by user,
+-- optionally by status, and orders by (created_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_tasks_user_status_created
+    ON tab_tasks(user_id, status, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_created
+    ON tab_tasks(user_id, created_at DESC, id DESC);
+
+-- Open tasks are the hot set (NOW/WAITING/SNOOZED); DONE rows pile up and are rarely read.
+-- Serves the open-task listing, which spells status <> 'DONE' as a literal so the planner
+-- can match this predicate
+CREATE INDEX IF NOT EXISTS idx_tasks_user_open
+    ON tab_tasks(user_id, created_at DESC, id DESC)
+    WHERE status <> 'DONE';
+
+-- Covered by the composites above as their leading column
+DROP INDEX IF EXISTS idx_tasks_user_id;
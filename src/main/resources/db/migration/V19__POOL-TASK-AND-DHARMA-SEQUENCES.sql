@@ -0,0 +1,4 @@
+-- Tasks and Dharmas ids come from pooled sequences (allocation size 50) so inserts can be
+-- batched; each nextval now reserves a block of 50 ids for the application
+ALTER SEQUENCE tab_tasks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tab_dharma_id_seq INCREMENT BY 50;
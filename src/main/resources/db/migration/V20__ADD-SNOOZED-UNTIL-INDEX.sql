@@ -0,0 +1,4 @@
+-- Feeds the snooze expiry engine: only SNOOZED rows are indexed, ordered by wake-up time
+CREATE INDEX IF NOT EXISTS idx_tasks_snoozed_until
+    ON tab_tasks(snoozed_until)
+    WHERE status = 'SNOOZED';
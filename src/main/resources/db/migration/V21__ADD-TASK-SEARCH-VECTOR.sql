@@ -0,0 +1,11 @@
+-- Full-text search over tasks. The 'simple' configuration does no stemming, so it behaves the
+-- same for every language users write in; titles weigh more than descriptions when ranking
+ALTER TABLE tab_tasks
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector
+    ON tab_tasks USING GIN (search_vector);
@@ -0,0 +1,6 @@
+-- Serve the per-user COUNT/MAX(updated_at) behind listing ETags as index-only scans
+CREATE INDEX IF NOT EXISTS idx_tasks_user_updated
+    ON tab_tasks(user_id, updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_dharma_user_updated
+    ON tab_dharma(user_id, updated_at);
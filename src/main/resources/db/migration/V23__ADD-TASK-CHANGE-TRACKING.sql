@@ -0,0 +1,53 @@
+-- Delta sync. Every task insert and update takes the next value of a global change sequence,
+-- and deleting a task or a dharma leaves a tombstone stamped from the same sequence, so one
+-- cursor orders both. Tombstones are purged by the application after the retention period.
+CREATE SEQUENCE IF NOT EXISTS tab_change_seq;
+
+ALTER TABLE tab_tasks ADD COLUMN change_seq BIGINT;
+UPDATE tab_tasks SET change_seq = nextval('tab_change_seq');
+ALTER TABLE tab_tasks
+    ALTER COLUMN change_seq SET DEFAULT nextval('tab_change_seq'),
+    ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_change_seq
+    ON tab_tasks(user_id, change_seq);
+
+CREATE OR REPLACE FUNCTION fn_tasks_next_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('tab_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_change_seq
+    BEFORE UPDATE ON tab_tasks
+    FOR EACH ROW EXECUTE FUNCTION fn_tasks_next_change_seq();
+
+CREATE TABLE tab_tombstones (
+    change_seq BIGINT PRIMARY KEY DEFAULT nextval('tab_change_seq'),
+    user_id UUID NOT NULL,
+    entity_type VARCHAR(10) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX IF NOT EXISTS idx_tombstones_user_change_seq
+    ON tab_tombstones(user_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_tombstones_deleted_at
+    ON tab_tombstones(deleted_at);
+
+CREATE OR REPLACE FUNCTION fn_record_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO tab_tombstones (user_id, entity_type, entity_id)
+    VALUES (OLD.user_id, TG_ARGV[0], OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_tombstone
+    AFTER DELETE ON tab_tasks
+    FOR EACH ROW EXECUTE FUNCTION fn_record_tombstone('TASK');
+
+CREATE TRIGGER trg_dharma_tombstone
+    AFTER DELETE ON tab_dharma
+    FOR EACH ROW EXECUTE FUNCTION fn_record_tombstone('DHARMA');
@@ -0,0 +1,16 @@
+-- Completed tasks per user, day and karma type, incremented when a task is marked DONE so the
+-- activity log never aggregates tab_tasks. Days are calendar days in app.karma.zone-id, passed
+-- in as the karma_zone_id placeholder so the backfill buckets match the live updates.
+CREATE TABLE tab_karma_activity (
+    user_id UUID NOT NULL REFERENCES tab_users(id) ON DELETE CASCADE,
+    activity_date DATE NOT NULL,
+    karma_type VARCHAR(20) NOT NULL,
+    completed_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, activity_date, karma_type)
+);
+
+INSERT INTO tab_karma_activity (user_id, activity_date, karma_type, completed_count)
+SELECT t.user_id, (t.completed_at AT TIME ZONE '${karma_zone_id}')::date, t.karma_type, COUNT(*)
+FROM tab_tasks t
+WHERE t.status = 'DONE' AND t.completed_at IS NOT NULL
+GROUP BY 1, 2, 3;
@@ -0,0 +1,44 @@
+-- Projects group tasks of one dharma; milestones are ordered checkpoints inside a project.
+-- total_tasks/completed_tasks are denormalized from tab_tasks and kept in step by the task
+-- transitions, so listing project cards never counts tasks per project.
+CREATE TABLE tab_projects (
+    id BIGSERIAL PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES tab_users(id) ON DELETE CASCADE,
+    dharma_id BIGINT NOT NULL REFERENCES tab_dharma(id) ON DELETE RESTRICT,
+    title VARCHAR(60) NOT NULL,
+    description VARCHAR(200),
+    status VARCHAR(10) NOT NULL DEFAULT 'ACTIVE',
+    total_tasks INTEGER NOT NULL DEFAULT 0,
+    completed_tasks INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_projects_user_status_created
+    ON tab_projects(user_id, status, created_at DESC);
+CREATE INDEX idx_projects_dharma_id ON tab_projects(dharma_id);
+
+CREATE TABLE tab_milestones (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL REFERENCES tab_projects(id) ON DELETE CASCADE,
+    title VARCHAR(60) NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'OPEN',
+    position INTEGER NOT NULL,
+    total_tasks INTEGER NOT NULL DEFAULT 0,
+    completed_tasks INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_milestones_project_position ON tab_milestones(project_id, position);
+
+ALTER SEQUENCE tab_projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tab_milestones_id_seq INCREMENT BY 50;
+
+ALTER TABLE tab_tasks
+    ADD COLUMN project_id BIGINT REFERENCES tab_projects(id) ON DELETE SET NULL,
+    ADD COLUMN milestone_id BIGINT REFERENCES tab_milestones(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_tasks_project_created ON tab_tasks(project_id, created_at DESC, id DESC)
+    WHERE project_id IS NOT NULL;
+CREATE INDEX idx_tasks_milestone_id ON tab_tasks(milestone_id) WHERE milestone_id IS NOT NULL;
@@ -0,0 +1,6 @@
+-- A dharma can be deleted once its tasks are gone (the application removes the DONE ones in
+-- batches first); its projects and their milestones go with it instead of blocking the delete
+ALTER TABLE tab_projects
+    DROP CONSTRAINT tab_projects_dharma_id_fkey,
+    ADD CONSTRAINT fk_projects_dharma
+        FOREIGN KEY (dharma_id) REFERENCES tab_dharma(id) ON DELETE CASCADE;
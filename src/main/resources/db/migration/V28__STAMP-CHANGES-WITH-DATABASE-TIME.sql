@@ -0,0 +1,41 @@
+-- Delta sync watermark. A change may only be handed out once no transaction that is still
+-- running can commit a lower change_seq. Every writer now takes its transaction id before its
+-- sequence value and stamps changed_at from the database clock after it, so a row whose
+-- changed_at is older than the start of every transaction still holding an xid is safe: any
+-- such transaction took its sequence values later, hence higher.
+ALTER TABLE tab_tasks ADD COLUMN changed_at TIMESTAMPTZ;
+
+-- Backfill without re-stamping every task, which would resend all of them to every client
+ALTER TABLE tab_tasks DISABLE TRIGGER trg_tasks_change_seq;
+UPDATE tab_tasks SET changed_at = updated_at;
+ALTER TABLE tab_tasks ENABLE TRIGGER trg_tasks_change_seq;
+
+ALTER TABLE tab_tasks
+    ALTER COLUMN changed_at SET NOT NULL,
+    ALTER COLUMN change_seq DROP DEFAULT;
+
+CREATE OR REPLACE FUNCTION fn_tasks_next_change_seq() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_current_xact_id();
+    NEW.change_seq := nextval('tab_change_seq');
+    NEW.changed_at := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Inserts took the sequence from the column default, before the transaction had an id
+DROP TRIGGER trg_tasks_change_seq ON tab_tasks;
+CREATE TRIGGER trg_tasks_change_seq
+    BEFORE INSERT OR UPDATE ON tab_tasks
+    FOR EACH ROW EXECUTE FUNCTION fn_tasks_next_change_seq();
+
+-- Runs after the delete, so the transaction already has an id
+CREATE OR REPLACE FUNCTION fn_record_tombstone() RETURNS trigger AS $$
+DECLARE
+    seq BIGINT := nextval('tab_change_seq');
+BEGIN
+    INSERT INTO tab_tombstones (change_seq, user_id, entity_type, entity_id, deleted_at)
+    VALUES (seq, OLD.user_id, TG_ARGV[0], OLD.id, clock_timestamp());
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,122 @@
+package br.com.oriontask.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import br.com.oriontask.backend.tasks.dto.TaskChangesDTO;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.repository.TombstoneRepository;
+import br.com.oriontask.backend.tasks.service.TaskSyncService;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs the change feed against Postgres with a transaction that takes its change_seq before a
+ * faster one and commits after the client has already synced, the case a time-based settle window
+ * gets wrong once the slow transaction outlasts it.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskChangeFeedWatermarkTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+  @Autowired private TasksRepository tasksRepository;
+  @Autowired private TombstoneRepository tombstoneRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private DataSource dataSource;
+
+  private JdbcTemplate jdbc;
+  private TransactionTemplate transactionTemplate;
+  private TaskSyncService syncService;
+  private UUID userId;
+  private Long dharmaId;
+
+  @BeforeEach
+  void setUp() {
+    jdbc = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    syncService =
+        new TaskSyncService(
+            tasksRepository,
+            tombstoneRepository,
+            Mappers.getMapper(TasksMapper.class),
+            null,
+            transactionTemplate);
+    userId = UUID.randomUUID();
+    jdbc.update(
+        "INSERT INTO tab_users (id, name, email, password_hash) VALUES (?, 'Sync', ?, 'hash')",
+        userId,
+        userId + "@sync.test");
+    dharmaId =
+        jdbc.queryForObject(
+            "INSERT INTO tab_dharma (user_id, name, color) VALUES (?, 'Sync', '#FFFFFF')"
+                + " RETURNING id",
+            Long.class,
+            userId);
+  }
+
+  @Test
+  @DisplayName("A slow transaction committing below the cursor should still reach the client")
+  void slowTransactionShouldNotBeSkipped() throws SQLException {
+    insertTask(jdbc, "Committed before");
+
+    TaskChangesDTO first;
+    try (Connection slow = dataSource.getConnection()) {
+      slow.setAutoCommit(false);
+      insertTask(new JdbcTemplate(new SingleConnectionDataSource(slow, true)), "Slow import row");
+      insertTask(jdbc, "Committed after");
+
+      first = changesSince(null);
+      assertEquals(List.of("Committed before"), titles(first));
+
+      slow.commit();
+    }
+
+    TaskChangesDTO second = changesSince(first.nextCursor());
+    assertEquals(List.of("Slow import row", "Committed after"), titles(second));
+  }
+
+  private TaskChangesDTO changesSince(String cursor) {
+    return transactionTemplate.execute(status -> syncService.changesSince(userId, cursor, 100));
+  }
+
+  private void insertTask(JdbcTemplate template, String title) {
+    template.update(
+        """
+        INSERT INTO tab_tasks (dharma_id, user_id, title, karma_type, effort_level, status)
+        VALUES (?, ?, ?, 'ACTION', 'LOW', 'WAITING')
+        """,
+        dharmaId,
+        userId,
+        title);
+  }
+
+  private static List<String> titles(TaskChangesDTO changes) {
+    return changes.changed().stream().map(TaskDTO::title).toList();
+  }
+}
@@ -0,0 +1,243 @@
+package br.com.oriontask.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.dto.TaskCursor;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs every listing/lookup query of {@link TasksRepository} against a seeded Postgres and fails
+ * when the generic plan of any statement it issues falls back to a sequential scan of tab_tasks.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.jpa.show-sql=false",
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "br.com.oriontask.backend.repository.TasksRepositoryQueryPlanTest$CapturingInspector"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TasksRepositoryQueryPlanTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+  private static final int USERS = 200;
+  private static final int DHARMAS_PER_USER = 5;
+  private static final int TASKS_PER_DHARMA = 20;
+
+  @Autowired private TasksRepository repository;
+  @Autowired private DataSource dataSource;
+
+  private JdbcTemplate jdbc;
+
+  @BeforeEach
+  void seed() {
+    jdbc = new JdbcTemplate(dataSource);
+    if (jdbc.queryForObject("SELECT COUNT(*) FROM tab_tasks", Long.class) > 0) {
+      return;
+    }
+
+    jdbc.update(
+        """
+        INSERT INTO tab_users (id, name, email, password_hash)
+        SELECT gen_random_uuid(), 'User ' || g, 'user' || g || '@seed.test', 'hash'
+        FROM generate_series(1, ?) g
+        """,
+        USERS);
+    jdbc.update(
+        """
+        INSERT INTO tab_dharma (user_id, name, color)
+        SELECT u.id, 'Dharma ' || g, '#FFFFFF'
+        FROM tab_users u, generate_series(1, ?) g
+        """,
+        DHARMAS_PER_USER);
+    jdbc.update(
+        """
+        INSERT INTO tab_tasks
+            (dharma_id, user_id, title, karma_type, effort_level, status, created_at)
+        SELECT d.id, d.user_id, 'Seeded task', 'ACTION', 'LOW',
+               CASE WHEN g % 10 < 6 THEN 'DONE'
+                    WHEN g % 10 < 7 THEN 'NOW'
+                    WHEN g % 10 < 9 THEN 'WAITING'
+                    ELSE 'SNOOZED' END,
+               CURRENT_TIMESTAMP - make_interval(mins => g)
+        FROM tab_dharma d, generate_series(1, ?) g
+        """,
+        TASKS_PER_DHARMA);
+    jdbc.execute("ANALYZE tab_users");
+    jdbc.execute("ANALYZE tab_dharma");
+    jdbc.execute("ANALYZE tab_tasks");
+  }
+
+  @Test
+  @DisplayName("Task queries should never plan a sequential scan on tab_tasks")
+  void taskQueriesShouldUseIndexes() {
+    Map<String, Object> sample =
+        jdbc.queryForMap("SELECT id, user_id, dharma_id FROM tab_tasks LIMIT 1");
+    Long taskId = (Long) sample.get("id");
+    UUID userId = (UUID) sample.get("user_id");
+    Long dharmaId = (Long) sample.get("dharma_id");
+    PageRequest deepPage = PageRequest.of(3, 20);
+    PageRequest slice = PageRequest.ofSize(20);
+    TaskCursor first = TaskCursor.FIRST;
+
+    Map<String, Runnable> queries = new LinkedHashMap<>();
+    queries.put("findById", () -> repository.findById(taskId));
+    queries.put("findByIdAndUserId", () -> repository.findByIdAndUserId(taskId, userId));
+    queries.put("findByDharmasId", () -> repository.findByDharmasId(dharmaId, deepPage));
+    queries.put("countByDharmasId", () -> repository.countByDharmasId(dharmaId));
+    queries.put("findByUserId", () -> repository.findByUserId(userId, deepPage));
+    queries.put(
+        "findByUserIdAndDharmasId",
+        () -> repository.findByUserIdAndDharmasId(userId, dharmaId, deepPage));
+    queries.put(
+        "findByUserIdAndStatus",
+        () -> repository.findByUserIdAndStatus(userId, TaskStatus.WAITING, deepPage));
+    queries.put(
+        "findByUserIdAndDharmasIdAndStatus",
+        () ->
+            repository.findByUserIdAndDharmasIdAndStatus(
+                userId, dharmaId, TaskStatus.WAITING, deepPage));
+    queries.put(
+        "findByUserIdBefore",
+        () -> repository.findByUserIdBefore(userId, first.createdAt(), first.id(), slice));
+    queries.put(
+        "findByUserIdAndDharmasIdBefore",
+        () ->
+            repository.findByUserIdAndDharmasIdBefore(
+                userId, dharmaId, first.createdAt(), first.id(), slice));
+    queries.put(
+        "findByUserIdAndStatusBefore",
+        () ->
+            repository.findByUserIdAndStatusBefore(
+                userId, TaskStatus.DONE, first.createdAt(), first.id(), slice));
+    queries.put(
+        "findByUserIdAndDharmasIdAndStatusBefore",
+        () ->
+            repository.findByUserIdAndDharmasIdAndStatusBefore(
+                userId, dharmaId, TaskStatus.DONE, first.createdAt(), first.id(), slice));
+    queries.put(
+        "findOpenByUserIdBefore",
+        () -> repository.findOpenByUserIdBefore(userId, first.createdAt(), first.id(), slice));
+    queries.put(
+        "findOpenByUserIdAndDharmasIdBefore",
+        () ->
+            repository.findOpenByUserIdAndDharmasIdBefore(
+                userId, dharmaId, first.createdAt(), first.id(), slice));
+    queries.put(
+        "findListingVersionByUserId", () -> repository.findListingVersionByUserId(userId));
+    queries.put(
+        "findDTOsByIdInAndUserId",
+        () -> repository.findDTOsByIdInAndUserId(List.of(taskId), userId));
+    queries.put(
+        "searchByScoreBefore",
+        () ->
+            repository.searchByScoreBefore(
+                userId, "seeded", Float.MAX_VALUE, Long.MAX_VALUE, 20));
+    queries.put("findChangedAfter", () -> repository.findChangedAfter(userId, 0L, slice));
+    queries.put(
+        "findDTOsByProjectIdAndUserId",
+        () -> repository.findDTOsByProjectIdAndUserId(1L, userId));
+
+    List<Executable> checks = new ArrayList<>();
+    queries.forEach(
+        (name, query) -> {
+          CapturingInspector.STATEMENTS.clear();
+          query.run();
+          List<String> statements =
+              CapturingInspector.STATEMENTS.stream()
+                  .filter(sql -> sql.toLowerCase().contains("tab_tasks"))
+                  .toList();
+
+          checks.add(() -> assertFalse(statements.isEmpty(), name + " issued no statements"));
+          for (String sql : statements) {
+            String plan = explain(sql);
+            checks.add(
+                () ->
+                    assertFalse(
+                        plan.contains("Seq Scan on tab_tasks"),
+                        name + " planned a sequential scan:\n" + sql + "\n" + plan));
+          }
+        });
+
+    assertAll(checks);
+  }
+
+  @Test
+  @DisplayName("The open-task listing should be served by the partial index on open tasks")
+  void openTaskListingShouldUsePartialIndex() {
+    UUID userId = jdbc.queryForObject("SELECT user_id FROM tab_tasks LIMIT 1", UUID.class);
+    TaskCursor first = TaskCursor.FIRST;
+
+    CapturingInspector.STATEMENTS.clear();
+    repository.findOpenByUserIdBefore(
+        userId, first.createdAt(), first.id(), PageRequest.ofSize(20));
+    String sql =
+        CapturingInspector.STATEMENTS.stream()
+            .filter(statement -> statement.toLowerCase().contains("tab_tasks"))
+            .findFirst()
+            .orElseThrow();
+    String plan = explain(sql);
+
+    assertTrue(plan.contains("idx_tasks_user_open"), "Expected idx_tasks_user_open:\n" + plan);
+  }
+
+  private String explain(String sql) {
+    List<String> lines =
+        jdbc.queryForList("EXPLAIN (GENERIC_PLAN) " + toPositionalParameters(sql), String.class);
+    return String.join("\n", lines);
+  }
+
+  /** GENERIC_PLAN needs $n placeholders instead of JDBC's ?. */
+  private static String toPositionalParameters(String sql) {
+    StringBuilder result = new StringBuilder();
+    int position = 0;
+    for (char c : sql.toCharArray()) {
+      if (c == '?') {
+        result.append('$').append(++position);
+      } else {
+        result.append(c);
+      }
+    }
+    return result.toString();
+  }
+
+  public static class CapturingInspector implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
@@ -16,8 +16,10 @@ import br.com.oriontask.backend.auth.service.TokenService;
 import br.com.oriontask.backend.refreshtoken.service.RefreshTokenService;
 import br.com.oriontask.backend.shared.service.EmailService;
 import br.com.oriontask.backend.shared.service.RedisTokenService;
+import br.com.oriontask.backend.shared.service.RevocationEpochService;
 import br.com.oriontask.backend.shared.utils.UserLookupService;
 import br.com.oriontask.backend.users.dto.UserResponseDTO;
+import br.com.oriontask.backend.users.event.UserIdentityChangedEvent;
 import br.com.oriontask.backend.users.mapper.UsersMapper;
 import br.com.oriontask.backend.users.model.Users;
 import br.com.oriontask.backend.users.repository.UsersRepository;
@@ -32,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +48,8 @@ class AuthServiceTest {
   @Mock private RedisTokenService redisTokenService;
   @Mock private AuthPolicy authPolicy;
   @Mock private UserLookupService userLookupService;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private RevocationEpochService revocationEpochs;
 
   @InjectMocks private AuthService authService;
 
@@ -250,6 +255,7 @@ class AuthServiceTest {
     org.junit.jupiter.api.Assertions.assertTrue(user.getIsConfirmed());
     org.junit.jupiter.api.Assertions.assertNull(user.getConfirmationToken());
     verify(usersRepository).save(user);
+    verify(eventPublisher).publishEvent(new UserIdentityChangedEvent(user.getId()));
   }
 
   @Test
@@ -337,6 +343,8 @@ class AuthServiceTest {
     verify(usersRepository)
         .save(argThat(savedUser -> BCrypt.checkpw(newPassword, savedUser.getPasswordHash())));
     verify(redisTokenService).deletePasswordResetToken(token);
+    verify(revocationEpochs).bump(testUserId);
+    verify(eventPublisher).publishEvent(new UserIdentityChangedEvent(testUserId));
   }
 
   @Test
@@ -373,6 +381,7 @@ class AuthServiceTest {
     assertEquals("User not found", exception.getMessage());
     verify(usersRepository, never()).save(any(Users.class));
     verify(redisTokenService, never()).deletePasswordResetToken(any());
+    verify(revocationEpochs, never()).bump(any());
   }
 
   @Test
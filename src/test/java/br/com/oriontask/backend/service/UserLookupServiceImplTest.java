@@ -0,0 +1,92 @@
+package br.com.oriontask.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.shared.cache.TwoTierCacheManager;
+import br.com.oriontask.backend.shared.utils.CacheNames;
+import br.com.oriontask.backend.users.dto.UserIdentity;
+import br.com.oriontask.backend.users.event.UserIdentityChangedEvent;
+import br.com.oriontask.backend.users.exception.UserLookupExceptionImpl;
+import br.com.oriontask.backend.users.model.Users;
+import br.com.oriontask.backend.users.repository.UsersRepository;
+import br.com.oriontask.backend.users.service.UserLookupServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupServiceImplTest {
+
+  @Mock private UsersRepository usersRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UserLookupServiceImpl userLookupService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    userLookupService =
+        new UserLookupServiceImpl(
+            usersRepository,
+            new TwoTierCacheManager(null, JsonMapper.builder().build(), null)
+                .register(CacheNames.USERS, UserIdentity.class, Duration.ofMinutes(1), 100),
+            meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Should load the identity once and count the later lookup as a hit")
+  void getRequiredUserShouldServeRepeatedLookupsFromCache() {
+    UUID userId = UUID.randomUUID();
+    when(usersRepository.findIdentityById(userId))
+        .thenReturn(Optional.of(new UserIdentity(userId, "ana@test", true)));
+
+    userLookupService.getRequiredUser(userId);
+    Users user = userLookupService.getRequiredUser(userId);
+
+    assertEquals(userId, user.getId());
+    assertEquals("ana@test", user.getEmail());
+    assertTrue(user.getIsConfirmed());
+    verify(usersRepository, times(1)).findIdentityById(userId);
+    assertEquals(1, meterRegistry.counter("oriontask.users.lookup", "result", "miss").count());
+    assertEquals(1, meterRegistry.counter("oriontask.users.lookup", "result", "hit").count());
+  }
+
+  @Test
+  @DisplayName("Should throw and cache nothing when the user does not exist")
+  void getRequiredUserShouldThrowWhenUserNotFound() {
+    UUID userId = UUID.randomUUID();
+    when(usersRepository.findIdentityById(userId)).thenReturn(Optional.empty());
+
+    assertThrows(UserLookupExceptionImpl.class, () -> userLookupService.getRequiredUser(userId));
+    assertThrows(UserLookupExceptionImpl.class, () -> userLookupService.getRequiredUser(userId));
+
+    verify(usersRepository, times(2)).findIdentityById(userId);
+  }
+
+  @Test
+  @DisplayName("Should reload the identity after it changes")
+  void identityChangeShouldEvictCachedEntry() {
+    UUID userId = UUID.randomUUID();
+    when(usersRepository.findIdentityById(userId))
+        .thenReturn(Optional.of(new UserIdentity(userId, "ana@test", false)));
+    userLookupService.getRequiredUser(userId);
+
+    userLookupService.onUserIdentityChanged(new UserIdentityChangedEvent(userId));
+    userLookupService.getRequiredUser(userId);
+
+    verify(usersRepository, times(2)).findIdentityById(userId);
+  }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 
 import br.com.oriontask.backend.users.dto.UpdateUserDTO;
 import br.com.oriontask.backend.users.dto.UserResponseDTO;
+import br.com.oriontask.backend.users.event.UserIdentityChangedEvent;
 import br.com.oriontask.backend.users.exception.UserNotFoundException;
 import br.com.oriontask.backend.users.mapper.UsersMapper;
 import br.com.oriontask.backend.users.model.Users;
@@ -23,6 +24,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +33,7 @@ class UsersServiceTest {
   @Mock private UsersRepository repository;
   @Mock private UsersMapper mapper;
   @Mock private Authentication authentication;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private UsersService usersService;
 
@@ -97,6 +100,7 @@ class UsersServiceTest {
     verify(mapper).partialUpdate(dto, existing);
     verify(repository).save(updated);
     verify(mapper).toDTO(updated);
+    verify(eventPublisher).publishEvent(new UserIdentityChangedEvent(userId));
   }
 
   @Test
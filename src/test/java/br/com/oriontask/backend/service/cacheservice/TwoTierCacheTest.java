@@ -0,0 +1,160 @@
+package br.com.oriontask.backend.service.cacheservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.shared.cache.CacheInvalidationSubscriber;
+import br.com.oriontask.backend.shared.cache.TwoTierCacheManager;
+import br.com.oriontask.backend.users.dto.UserIdentity;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+  private static final String CHANNEL = "test:cache-invalidation";
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private final UUID userId = UUID.randomUUID();
+  private final String sharedKey = "oriontask:cache:users:" + userId;
+  private final String generationKey = "oriontask:cache-generation:users:" + userId;
+  private final String ttlMillis = Long.toString(TTL.toMillis());
+
+  private TwoTierCacheManager cacheManager;
+  private Cache cache;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager =
+        new TwoTierCacheManager(redisTemplate, jsonMapper, CHANNEL)
+            .register("users", UserIdentity.class, TTL, 100);
+    cache = cacheManager.getCache("users");
+  }
+
+  @Test
+  @DisplayName("Should fill the local tier from Redis and then stop asking Redis")
+  void lookupShouldFallThroughToRedisOnce() {
+    UserIdentity identity = new UserIdentity(userId, "ana@test", true);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get(sharedKey)).thenReturn(jsonMapper.writeValueAsString(identity));
+
+    assertEquals(identity, cache.get(userId.toString(), UserIdentity.class));
+    assertEquals(identity, cache.get(userId.toString(), UserIdentity.class));
+
+    verify(valueOperations).get(sharedKey);
+  }
+
+  @Test
+  @DisplayName("Should load on a miss in both tiers and fill Redis fenced by the generation read")
+  void loaderResultShouldBeSharedThroughRedis() {
+    UserIdentity identity = new UserIdentity(userId, "ana@test", false);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.multiGet(List.of(sharedKey, generationKey)))
+        .thenReturn(Arrays.asList(null, "3"));
+
+    UserIdentity loaded = cache.get(userId.toString(), () -> identity);
+
+    assertEquals(identity, loaded);
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            eq(List.of(sharedKey, generationKey)),
+            eq("3"),
+            eq(jsonMapper.writeValueAsString(identity)),
+            eq(ttlMillis));
+    verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Should not keep a value whose load raced an eviction")
+  void loadRacingAnEvictionShouldNotBeCachedLocally() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.multiGet(List.of(sharedKey, generationKey)))
+        .thenReturn(Arrays.asList((String) null, null));
+
+    UserIdentity loaded =
+        cache.get(
+            userId.toString(),
+            () -> {
+              cache.evict(userId.toString());
+              return new UserIdentity(userId, "stale@test", true);
+            });
+
+    assertEquals("stale@test", loaded.email());
+    assertNull(cache.get(userId.toString(), UserIdentity.class));
+  }
+
+  @Test
+  @DisplayName("Should evict both tiers, bump the generation and broadcast the eviction")
+  void evictShouldClearBothTiersAndBroadcast() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    cache.put(userId.toString(), new UserIdentity(userId, "ana@test", true));
+
+    cache.evict(userId.toString());
+
+    verify(redisTemplate)
+        .execute(any(RedisScript.class), eq(List.of(sharedKey, generationKey)), eq(ttlMillis));
+    verify(redisTemplate).convertAndSend(CHANNEL, "users|" + userId);
+    assertNull(cache.get(userId.toString(), UserIdentity.class));
+  }
+
+  @Test
+  @DisplayName("Should still broadcast evictions when the Redis tier is disabled")
+  void evictShouldBroadcastWithoutSharedTier() {
+    Cache localOnly =
+        new TwoTierCacheManager(redisTemplate, jsonMapper, CHANNEL, false)
+            .register("users", UserIdentity.class, TTL, 100)
+            .getCache("users");
+    localOnly.get(userId.toString(), () -> new UserIdentity(userId, "ana@test", true));
+
+    localOnly.evict(userId.toString());
+
+    verify(redisTemplate).convertAndSend(CHANNEL, "users|" + userId);
+    verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    verifyNoInteractions(valueOperations);
+  }
+
+  @Test
+  @DisplayName("Should drop only the local copy when another node announces an eviction")
+  void announcedEvictionShouldOnlyTouchLocalTier() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    cache.put(userId.toString(), new UserIdentity(userId, "ana@test", true));
+
+    new CacheInvalidationSubscriber(cacheManager)
+        .onMessage(
+            new DefaultMessage(
+                CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("users|" + userId).getBytes(StandardCharsets.UTF_8)),
+            null);
+    cache.get(userId.toString(), UserIdentity.class);
+
+    verify(valueOperations).get(sharedKey);
+    verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+  }
+}
@@ -0,0 +1,141 @@
+package br.com.oriontask.backend.service.dashboardservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.dashboard.dto.DashboardDTO;
+import br.com.oriontask.backend.dashboard.dto.DharmaSummaryDTO;
+import br.com.oriontask.backend.dashboard.repository.DashboardRepository;
+import br.com.oriontask.backend.dashboard.repository.DashboardVersion;
+import br.com.oriontask.backend.dashboard.service.DashboardService;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.shared.utils.UserLookupService;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.service.TasksService;
+import br.com.oriontask.backend.users.dto.UserResponseDTO;
+import br.com.oriontask.backend.users.exception.UserNotFoundException;
+import br.com.oriontask.backend.users.mapper.UsersMapper;
+import br.com.oriontask.backend.users.model.Users;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+  @Mock private DashboardRepository repository;
+  @Mock private TasksService tasksService;
+  @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private UserLookupService userLookup;
+  @Mock private UsersMapper usersMapper;
+
+  @InjectMocks private DashboardService dashboardService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(dashboardService, "waitingSize", 10);
+  }
+
+  @Test
+  @DisplayName("Should assemble profile, NOW tasks, WAITING head and dharma summaries")
+  void getDashboardShouldAssembleAllParts() {
+    UUID userId = UUID.randomUUID();
+    Users user = Users.builder().id(userId).build();
+    UserResponseDTO profile = new UserResponseDTO(userId, "Ana", "ana@test", true, null, null);
+    List<TaskDTO> now = List.of(buildTask(1L, TaskStatus.NOW));
+    TaskSliceDTO waiting = new TaskSliceDTO(List.of(buildTask(2L, TaskStatus.WAITING)), "c", true);
+    List<DharmaSummaryDTO> dharmas = List.of(new DharmaSummaryDTO(10L, "Work", "#FFFFFF", 2L));
+
+    when(userLookup.getRequiredProfile(userId)).thenReturn(user);
+    when(usersMapper.toDTO(user)).thenReturn(profile);
+    when(statusPolicy.maxNowTasks()).thenReturn(5);
+    when(tasksService.listTasksByCursor(userId, null, TaskStatus.NOW, null, 5))
+        .thenReturn(new TaskSliceDTO(now, null, false));
+    when(tasksService.listTasksByCursor(userId, null, TaskStatus.WAITING, null, 10))
+        .thenReturn(waiting);
+    when(repository.findVisibleDharmaSummaries(userId, TaskStatus.DONE)).thenReturn(dharmas);
+
+    DashboardDTO result = dashboardService.getDashboard(userId);
+
+    assertSame(profile, result.user());
+    assertEquals(now, result.now());
+    assertSame(waiting, result.waiting());
+    assertEquals(dharmas, result.dharmas());
+  }
+
+  @Test
+  @DisplayName("Should change the ETag when any part of the dashboard changes")
+  void getETagShouldFollowEveryVersion() {
+    UUID userId = UUID.randomUUID();
+    Timestamp earlier = new Timestamp(1_000_000L);
+    Timestamp later = new Timestamp(2_000_000L);
+
+    when(repository.findVersionByUserId(userId)).thenReturn(version(earlier, 3L, earlier));
+    String before = dashboardService.getETag(userId);
+    when(repository.findVersionByUserId(userId)).thenReturn(version(earlier, 3L, later));
+    String afterTaskUpdate = dashboardService.getETag(userId);
+    when(repository.findVersionByUserId(userId)).thenReturn(version(later, 3L, earlier));
+    String afterProfileUpdate = dashboardService.getETag(userId);
+
+    assertNotEquals(before, afterTaskUpdate);
+    assertNotEquals(before, afterProfileUpdate);
+    assertNotEquals(afterTaskUpdate, afterProfileUpdate);
+  }
+
+  @Test
+  @DisplayName("Should throw when the user does not exist")
+  void getETagShouldThrowWhenUserNotFound() {
+    UUID userId = UUID.randomUUID();
+    when(repository.findVersionByUserId(userId)).thenReturn(null);
+
+    assertThrows(UserNotFoundException.class, () -> dashboardService.getETag(userId));
+  }
+
+  private DashboardVersion version(Timestamp userUpdatedAt, Long taskCount, Timestamp tasksAt) {
+    return new DashboardVersion() {
+      @Override
+      public Timestamp getUserUpdatedAt() {
+        return userUpdatedAt;
+      }
+
+      @Override
+      public Long getTaskCount() {
+        return taskCount;
+      }
+
+      @Override
+      public Timestamp getTasksUpdatedAt() {
+        return tasksAt;
+      }
+
+      @Override
+      public Long getDharmaCount() {
+        return 1L;
+      }
+
+      @Override
+      public Timestamp getDharmasUpdatedAt() {
+        return null;
+      }
+    };
+  }
+
+  private TaskDTO buildTask(Long id, TaskStatus status) {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    return new TaskDTO(
+        id, 10L, "Task title", null, null, null, status, false, null, null, now, now);
+  }
+}
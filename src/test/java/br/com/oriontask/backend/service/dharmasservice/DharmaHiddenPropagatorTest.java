@@ -0,0 +1,84 @@
+package br.com.oriontask.backend.service.dharmasservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
+import br.com.oriontask.backend.dharmas.service.DharmaHiddenPropagator;
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class DharmaHiddenPropagatorTest {
+
+  @Mock private DharmasRepository repository;
+  @Mock private TasksRepository tasksRepository;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private ClusterJobRunner jobRunner;
+
+  private DharmaHiddenPropagator propagator;
+
+  @BeforeEach
+  void setUp() {
+    propagator =
+        new DharmaHiddenPropagator(
+            repository, tasksRepository, new TransactionTemplate(transactionManager), jobRunner);
+    ReflectionTestUtils.setField(propagator, "chunkSize", 2);
+  }
+
+  @Test
+  @DisplayName("Should update tasks in chunks until a chunk comes back short")
+  void propagateShouldRunChunksUntilDone() {
+    Dharmas dharmas = Dharmas.builder().id(71L).hidden(true).build();
+    when(repository.lockById(71L)).thenReturn(Optional.of(dharmas));
+    when(tasksRepository.updateHiddenByDharmasId(71L, true, 2)).thenReturn(2, 2, 1);
+
+    int updated = propagator.propagate(71L);
+
+    assertEquals(5, updated);
+    verify(repository, times(3)).lockById(71L);
+  }
+
+  @Test
+  @DisplayName("Should stop when the dharma no longer exists")
+  void propagateShouldStopWhenDharmaDeleted() {
+    when(repository.lockById(72L)).thenReturn(Optional.empty());
+
+    int updated = propagator.propagate(72L);
+
+    assertEquals(0, updated);
+    verify(tasksRepository, never()).updateHiddenByDharmasId(anyLong(), anyBoolean(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should re-propagate dharmas left with tasks carrying the wrong flag")
+  void reconcileShouldRepairStaleDharmas() {
+    Dharmas dharmas = Dharmas.builder().id(73L).hidden(false).build();
+    when(repository.findIdsWithStaleTaskHidden()).thenReturn(List.of(73L));
+    when(repository.lockById(73L)).thenReturn(Optional.of(dharmas));
+    when(tasksRepository.updateHiddenByDharmasId(73L, false, 2)).thenReturn(1);
+
+    int repaired = propagator.reconcile();
+
+    assertEquals(1, repaired);
+    verify(tasksRepository).updateHiddenByDharmasId(73L, false, 2);
+  }
+}
@@ -0,0 +1,91 @@
+package br.com.oriontask.backend.service.dharmasservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.dharmas.dto.DharmaSnapshot;
+import br.com.oriontask.backend.dharmas.event.DharmasChangedEvent;
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
+import br.com.oriontask.backend.dharmas.service.DharmaLookupServiceImpl;
+import br.com.oriontask.backend.shared.cache.TwoTierCacheManager;
+import br.com.oriontask.backend.shared.utils.CacheNames;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class DharmaLookupServiceImplTest {
+
+  @Mock private DharmasRepository repository;
+
+  private DharmaLookupServiceImpl dharmaLookup;
+  private final UUID userId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    TwoTierCacheManager cacheManager =
+        new TwoTierCacheManager(null, JsonMapper.builder().build(), null)
+            .register(CacheNames.DHARMAS, List.class, Duration.ofMinutes(1), 100);
+    dharmaLookup = new DharmaLookupServiceImpl(repository, cacheManager);
+  }
+
+  private void givenTwoDharmas() {
+    when(repository.findSnapshotsByUserId(userId))
+        .thenReturn(
+            List.of(
+                new DharmaSnapshot(1L, userId, "Body", "#111111", false),
+                new DharmaSnapshot(2L, userId, "Mind", "#222222", true)));
+  }
+
+  @Test
+  @DisplayName("Should load the user's dharmas once and serve later lookups from the cache")
+  void lookupsShouldShareOneCachedLoad() {
+    givenTwoDharmas();
+
+    Dharmas dharmas = dharmaLookup.getRequiredDharma(2L, userId);
+    Map<Long, Dharmas> byId = dharmaLookup.getDharmas(List.of(1L, 3L), userId);
+
+    assertEquals(2L, dharmas.getId());
+    assertEquals(userId, dharmas.getUser().getId());
+    assertTrue(dharmas.getHidden());
+    assertEquals(List.of(1L), List.copyOf(byId.keySet()));
+    verify(repository, times(1)).findSnapshotsByUserId(userId);
+  }
+
+  @Test
+  @DisplayName("Should throw when the dharma is not among the user's dharmas")
+  void getRequiredDharmaShouldThrowWhenNotOwned() {
+    givenTwoDharmas();
+
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> dharmaLookup.getRequiredDharma(9L, userId));
+
+    assertEquals("Dharmas not found", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should reload the user's dharmas after they change")
+  void dharmasChangeShouldEvictCachedEntry() {
+    givenTwoDharmas();
+    dharmaLookup.getRequiredDharma(1L, userId);
+
+    dharmaLookup.onDharmasChanged(new DharmasChangedEvent(userId));
+    dharmaLookup.getRequiredDharma(1L, userId);
+
+    verify(repository, times(2)).findSnapshotsByUserId(userId);
+  }
+}
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DharmasServiceCreateTest {
@@ -37,6 +38,7 @@ class DharmasServiceCreateTest {
   @Mock private TasksRepository tasksRepository;
   @Mock private DharmasMapper dharmasMapper;
   @Mock private DharmasPolicy dharmasPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private DharmasService dharmasService;
 
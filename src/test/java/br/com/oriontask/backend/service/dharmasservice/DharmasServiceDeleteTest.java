@@ -3,7 +3,12 @@ package br.com.oriontask.backend.service.dharmasservice;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,19 +19,19 @@ import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
 import br.com.oriontask.backend.dharmas.service.DharmasService;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.shared.utils.UserLookupService;
-import br.com.oriontask.backend.tasks.model.Tasks;
 import br.com.oriontask.backend.tasks.repository.TasksRepository;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DharmasServiceDeleteTest {
@@ -36,9 +41,15 @@ class DharmasServiceDeleteTest {
   @Mock private TasksRepository tasksRepository;
   @Mock private DharmasMapper dharmasMapper;
   @Mock private DharmasPolicy dharmasPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private DharmasService dharmasService;
 
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(dharmasService, "deleteChunkSize", 2);
+  }
+
   @Test
   @DisplayName("Should throw when dharmas does not exist")
   void deleteShouldThrowWhenDharmasNotFound() {
@@ -58,12 +69,9 @@ class DharmasServiceDeleteTest {
   void deleteShouldThrowWhenActiveTasksExist() {
     UUID userId = UUID.randomUUID();
     Dharmas dharmas = Dharmas.builder().id(61L).build();
-    Tasks doneTask = Tasks.builder().id(1L).status(TaskStatus.DONE).build();
-    Tasks nowTask = Tasks.builder().id(2L).status(TaskStatus.NOW).build();
 
     when(repository.findByIdAndUserId(61L, userId)).thenReturn(Optional.of(dharmas));
-    when(tasksRepository.findByDharmasId(61L, Pageable.unpaged()))
-        .thenReturn(new PageImpl<>(List.of(doneTask, nowTask)));
+    when(tasksRepository.existsByDharmasIdAndStatusNot(61L, TaskStatus.DONE)).thenReturn(true);
 
     IllegalStateException exception =
         assertThrows(IllegalStateException.class, () -> dharmasService.deleteDharmas(61L, userId));
@@ -71,23 +79,24 @@ class DharmasServiceDeleteTest {
     assertEquals(
         "Cannot delete Dharmas with active tasks. Complete or move tasks first.",
         exception.getMessage());
+    verify(tasksRepository, never()).deleteByDharmasIdAndStatus(anyLong(), anyString(), anyInt());
     verify(repository, never()).delete(dharmas);
   }
 
   @Test
-  @DisplayName("Should delete when all tasks are DONE")
+  @DisplayName("Should delete the DONE tasks in batches and then the dharmas")
   void deleteShouldSucceedWhenNoActiveTasks() {
     UUID userId = UUID.randomUUID();
     Dharmas dharmas = Dharmas.builder().id(62L).build();
-    Tasks done1 = Tasks.builder().id(1L).status(TaskStatus.DONE).build();
-    Tasks done2 = Tasks.builder().id(2L).status(TaskStatus.DONE).build();
 
     when(repository.findByIdAndUserId(62L, userId)).thenReturn(Optional.of(dharmas));
-    when(tasksRepository.findByDharmasId(62L, Pageable.unpaged()))
-        .thenReturn(new PageImpl<>(List.of(done1, done2)));
+    when(tasksRepository.existsByDharmasIdAndStatusNot(62L, TaskStatus.DONE)).thenReturn(false);
+    when(tasksRepository.deleteByDharmasIdAndStatus(62L, "DONE", 2)).thenReturn(2, 2, 1);
 
     dharmasService.deleteDharmas(62L, userId);
 
-    verify(repository).delete(dharmas);
+    InOrder inOrder = inOrder(tasksRepository, repository);
+    inOrder.verify(tasksRepository, times(3)).deleteByDharmasIdAndStatus(62L, "DONE", 2);
+    inOrder.verify(repository).delete(dharmas);
   }
 }
@@ -1,6 +1,7 @@
 package br.com.oriontask.backend.service.dharmasservice;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,6 +11,7 @@ import br.com.oriontask.backend.dharmas.model.Dharmas;
 import br.com.oriontask.backend.dharmas.policy.DharmasPolicy;
 import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
 import br.com.oriontask.backend.dharmas.service.DharmasService;
+import br.com.oriontask.backend.shared.utils.ListingVersion;
 import br.com.oriontask.backend.shared.utils.UserLookupService;
 import br.com.oriontask.backend.tasks.repository.TasksRepository;
 import java.sql.Timestamp;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DharmasServiceGetByUserTest {
@@ -30,6 +33,7 @@ class DharmasServiceGetByUserTest {
   @Mock private TasksRepository tasksRepository;
   @Mock private DharmasMapper dharmasMapper;
   @Mock private DharmasPolicy dharmasPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private DharmasService dharmasService;
 
@@ -68,4 +72,35 @@ class DharmasServiceGetByUserTest {
     verify(repository).findByUserIdAndHiddenFalse(userId);
     verify(dharmasMapper).toDTO(dharmas);
   }
+
+  @Test
+  @DisplayName("Listing ETag should change with the row count and with the latest update")
+  void listingETagShouldTrackCountAndLastUpdate() {
+    UUID userId = UUID.randomUUID();
+    when(repository.findListingVersionByUserId(userId))
+        .thenReturn(version(3L, new Timestamp(5_000L)))
+        .thenReturn(version(3L, new Timestamp(5_000L)))
+        .thenReturn(version(2L, new Timestamp(5_000L)))
+        .thenReturn(version(3L, new Timestamp(5_001L)));
+
+    String etag = dharmasService.getListingETag(userId);
+
+    assertEquals(etag, dharmasService.getListingETag(userId));
+    assertNotEquals(etag, dharmasService.getListingETag(userId));
+    assertNotEquals(etag, dharmasService.getListingETag(userId));
+  }
+
+  private ListingVersion version(Long count, Timestamp lastUpdatedAt) {
+    return new ListingVersion() {
+      @Override
+      public Long getCount() {
+        return count;
+      }
+
+      @Override
+      public Timestamp getLastUpdatedAt() {
+        return lastUpdatedAt;
+      }
+    };
+  }
 }
@@ -9,6 +9,8 @@ import org.junit.platform.suite.api.Suite;
   DharmasServiceCreateTest.class,
   DharmasServiceUpdateTest.class,
   DharmasServiceDeleteTest.class,
-  DharmasServiceToggleHiddenTest.class
+  DharmasServiceToggleHiddenTest.class,
+  DharmaHiddenPropagatorTest.class,
+  DharmaLookupServiceImplTest.class
 })
 public class DharmasServiceTestSuite {}
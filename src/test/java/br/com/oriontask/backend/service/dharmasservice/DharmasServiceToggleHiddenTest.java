@@ -2,29 +2,30 @@ package br.com.oriontask.backend.service.dharmasservice;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import br.com.oriontask.backend.dharmas.event.DharmaHiddenChangedEvent;
+import br.com.oriontask.backend.dharmas.event.DharmasChangedEvent;
 import br.com.oriontask.backend.dharmas.mapper.DharmasMapper;
 import br.com.oriontask.backend.dharmas.model.Dharmas;
 import br.com.oriontask.backend.dharmas.policy.DharmasPolicy;
 import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
 import br.com.oriontask.backend.dharmas.service.DharmasService;
 import br.com.oriontask.backend.shared.utils.UserLookupService;
-import br.com.oriontask.backend.tasks.model.Tasks;
 import br.com.oriontask.backend.tasks.repository.TasksRepository;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DharmasServiceToggleHiddenTest {
@@ -34,9 +35,15 @@ class DharmasServiceToggleHiddenTest {
   @Mock private TasksRepository tasksRepository;
   @Mock private DharmasMapper dharmasMapper;
   @Mock private DharmasPolicy dharmasPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private DharmasService dharmasService;
 
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(dharmasService, "hiddenChunkSize", 2);
+  }
+
   @Test
   @DisplayName("Should throw when dharmas does not exist")
   void toggleHiddenShouldThrowWhenDharmasNotFound() {
@@ -51,22 +58,36 @@ class DharmasServiceToggleHiddenTest {
   }
 
   @Test
-  @DisplayName("Should toggle hidden and propagate value to all tasks")
-  void toggleHiddenShouldPropagateToTasks() {
+  @DisplayName("Should toggle hidden and update the tasks within the same transaction")
+  void toggleHiddenShouldUpdateTasksInline() {
     UUID userId = UUID.randomUUID();
     Dharmas dharmas = Dharmas.builder().id(71L).hidden(false).build();
-    Tasks task1 = Tasks.builder().id(1L).hidden(false).build();
-    Tasks task2 = Tasks.builder().id(2L).hidden(false).build();
 
     when(repository.findByIdAndUserId(71L, userId)).thenReturn(Optional.of(dharmas));
-    when(tasksRepository.findByDharmasId(71L, Pageable.unpaged()))
-        .thenReturn(new PageImpl<>(List.of(task1, task2)));
+    when(tasksRepository.updateHiddenByDharmasId(71L, true, 2)).thenReturn(1);
 
     dharmasService.toggleHidden(71L, userId);
 
     assertEquals(true, dharmas.getHidden());
-    assertEquals(true, task1.getHidden());
-    assertEquals(true, task2.getHidden());
-    verify(tasksRepository).saveAll(any(Iterable.class));
+    verify(repository).save(dharmas);
+    verify(tasksRepository).updateHiddenByDharmasId(71L, true, 2);
+    verify(eventPublisher, never()).publishEvent(new DharmaHiddenChangedEvent(71L));
+    verify(eventPublisher).publishEvent(new DharmasChangedEvent(userId));
+  }
+
+  @Test
+  @DisplayName("Should hand only the tasks beyond the first chunk to the background propagation")
+  void toggleHiddenShouldPublishPropagationForRemainder() {
+    UUID userId = UUID.randomUUID();
+    Dharmas dharmas = Dharmas.builder().id(72L).hidden(true).build();
+
+    when(repository.findByIdAndUserId(72L, userId)).thenReturn(Optional.of(dharmas));
+    when(tasksRepository.updateHiddenByDharmasId(72L, false, 2)).thenReturn(2);
+
+    dharmasService.toggleHidden(72L, userId);
+
+    assertEquals(false, dharmas.getHidden());
+    verify(eventPublisher).publishEvent(new DharmaHiddenChangedEvent(72L));
+    verify(eventPublisher).publishEvent(new DharmasChangedEvent(userId));
   }
 }
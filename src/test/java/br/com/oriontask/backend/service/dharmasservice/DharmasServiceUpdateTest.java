@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import br.com.oriontask.backend.dharmas.dto.DharmasDTO;
 import br.com.oriontask.backend.dharmas.dto.UpdateDharmasDTO;
+import br.com.oriontask.backend.dharmas.event.DharmasChangedEvent;
 import br.com.oriontask.backend.dharmas.mapper.DharmasMapper;
 import br.com.oriontask.backend.dharmas.model.Dharmas;
 import br.com.oriontask.backend.dharmas.policy.DharmasPolicy;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DharmasServiceUpdateTest {
@@ -35,6 +37,7 @@ class DharmasServiceUpdateTest {
   @Mock private TasksRepository tasksRepository;
   @Mock private DharmasMapper dharmasMapper;
   @Mock private DharmasPolicy dharmasPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private DharmasService dharmasService;
 
@@ -80,5 +83,6 @@ class DharmasServiceUpdateTest {
     assertEquals("Mind", result.name());
     assertEquals("#222222", result.color());
     verify(repository).save(dharmas);
+    verify(eventPublisher).publishEvent(new DharmasChangedEvent(userId));
   }
 }
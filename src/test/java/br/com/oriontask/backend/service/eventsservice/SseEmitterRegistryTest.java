@@ -0,0 +1,83 @@
+package br.com.oriontask.backend.service.eventsservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import br.com.oriontask.backend.events.dto.TaskEventDTO;
+import br.com.oriontask.backend.events.service.SseEmitterRegistry;
+import br.com.oriontask.backend.shared.enums.TaskEventType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseEmitterRegistryTest {
+
+  private static final TaskEventDTO EVENT =
+      new TaskEventDTO(TaskEventType.STATUS_CHANGED, 1L, TaskStatus.NOW, Instant.now());
+
+  private SseEmitterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SseEmitterRegistry();
+    ReflectionTestUtils.setField(registry, "emitterTimeoutMs", 60_000L);
+    ReflectionTestUtils.setField(registry, "maxConnectionsPerUser", 2);
+  }
+
+  @Test
+  @DisplayName("Should deliver an event to every stream of the user and no one else")
+  void dispatchShouldReachOnlyUserStreams() {
+    UUID userId = UUID.randomUUID();
+    UUID otherUserId = UUID.randomUUID();
+    registry.register(userId);
+    registry.register(userId);
+    registry.register(otherUserId);
+
+    assertEquals(2, registry.dispatch(userId, EVENT));
+    assertEquals(0, registry.dispatch(UUID.randomUUID(), EVENT));
+  }
+
+  @Test
+  @DisplayName("Should close the oldest stream beyond the per-user cap")
+  void registerShouldEvictOldestStream() {
+    UUID userId = UUID.randomUUID();
+    registry.register(userId);
+    registry.register(userId);
+    registry.register(userId);
+
+    assertEquals(2, registry.connectionCount());
+    assertEquals(2, registry.dispatch(userId, EVENT));
+  }
+
+  @Test
+  @DisplayName("Should drop streams that can no longer be written")
+  void dispatchShouldDropCompletedStreams() {
+    UUID userId = UUID.randomUUID();
+    SseEmitter emitter = registry.register(userId);
+    emitter.complete();
+
+    assertEquals(0, registry.dispatch(userId, EVENT));
+    assertFalse(registry.hasEmitters(userId));
+    assertEquals(0, registry.connectionCount());
+  }
+
+  @Test
+  @DisplayName("Heartbeat pings should drop dead streams in the background")
+  void heartbeatShouldDropDeadStreams() throws InterruptedException {
+    UUID userId = UUID.randomUUID();
+    registry.register(userId).complete();
+
+    registry.heartbeat();
+
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (registry.hasEmitters(userId) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertFalse(registry.hasEmitters(userId));
+  }
+}
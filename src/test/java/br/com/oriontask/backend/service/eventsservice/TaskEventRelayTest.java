@@ -0,0 +1,93 @@
+package br.com.oriontask.backend.service.eventsservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.events.dto.TaskEventDTO;
+import br.com.oriontask.backend.events.dto.TaskEventMessage;
+import br.com.oriontask.backend.events.service.SseEmitterRegistry;
+import br.com.oriontask.backend.events.service.TaskEventRelay;
+import br.com.oriontask.backend.shared.enums.TaskEventType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.event.TaskChangedEvent;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventRelayTest {
+
+  private static final String CHANNEL = "oriontask:task-events";
+
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private SseEmitterRegistry emitterRegistry;
+
+  @Captor private ArgumentCaptor<String> payloadCaptor;
+  @Captor private ArgumentCaptor<TaskEventDTO> eventCaptor;
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+  private TaskEventRelay relay;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    relay = new TaskEventRelay(redisTemplate, jsonMapper, emitterRegistry);
+    ReflectionTestUtils.setField(relay, "pubSubEnabled", true);
+    ReflectionTestUtils.setField(relay, "channel", CHANNEL);
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  @DisplayName("Should publish committed changes on the shared channel")
+  void shouldPublishToChannel() {
+    relay.onTaskChanged(
+        new TaskChangedEvent(userId, 7L, TaskEventType.STATUS_CHANGED, TaskStatus.NOW));
+
+    verify(redisTemplate).convertAndSend(eq(CHANNEL), payloadCaptor.capture());
+    TaskEventMessage message =
+        jsonMapper.readValue(payloadCaptor.getValue(), TaskEventMessage.class);
+    assertEquals(userId, message.userId());
+    assertEquals(7L, message.event().taskId());
+    assertEquals(TaskStatus.NOW, message.event().status());
+    verifyNoInteractions(emitterRegistry);
+  }
+
+  @Test
+  @DisplayName("Should deliver to local streams when Redis is unreachable")
+  void shouldFallBackToLocalDelivery() {
+    when(redisTemplate.convertAndSend(eq(CHANNEL), anyString()))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    relay.onTaskChanged(new TaskChangedEvent(userId, 8L, TaskEventType.DELETED, null));
+
+    verify(emitterRegistry).dispatch(eq(userId), eventCaptor.capture());
+    assertEquals(TaskEventType.DELETED, eventCaptor.getValue().type());
+  }
+
+  @Test
+  @DisplayName("Should only deliver locally when pub/sub is disabled")
+  void shouldDeliverLocallyWhenPubSubDisabled() {
+    ReflectionTestUtils.setField(relay, "pubSubEnabled", false);
+
+    relay.onTaskChanged(
+        new TaskChangedEvent(userId, 9L, TaskEventType.CREATED, TaskStatus.WAITING));
+
+    verify(emitterRegistry).dispatch(eq(userId), any(TaskEventDTO.class));
+    verifyNoInteractions(redisTemplate);
+  }
+}
@@ -0,0 +1,163 @@
+package br.com.oriontask.backend.service.jobsservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.jobs.model.JobShard;
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterJobRunnerTest {
+
+  private static final Duration LEASE = Duration.ofMinutes(10);
+
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private HashOperations<String, Object, Object> hashOperations;
+
+  @InjectMocks private ClusterJobRunner jobRunner;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(jobRunner, "nodeName", "node-a");
+  }
+
+  @Test
+  @DisplayName("Should run only the shards whose lease this node acquires")
+  void shouldRunOnlyLeasedShards() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(valueOperations.setIfAbsent(anyString(), eq(jobRunner.owner()), eq(LEASE)))
+        .thenAnswer(
+            invocation -> {
+              String key = invocation.getArgument(0);
+              return key.endsWith(":1/4") || key.endsWith(":3/4");
+            });
+    List<Integer> ran = new ArrayList<>();
+
+    int count = jobRunner.runSharded("promotion", 4, LEASE, shard -> ran.add(shard.index()));
+
+    assertEquals(2, count);
+    assertEquals(List.of(1, 3), ran.stream().sorted().toList());
+    verify(hashOperations, times(2)).putAll(anyString(), anyMap());
+  }
+
+  @Test
+  @DisplayName("Should give the lease back and record the failure when a shard fails")
+  void shouldReleaseLeaseWhenShardFails() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(valueOperations.setIfAbsent("job_lease:cleanup:0/1", jobRunner.owner(), LEASE))
+        .thenReturn(true);
+
+    jobRunner.runExclusive(
+        "cleanup",
+        LEASE,
+        () -> {
+          throw new IllegalStateException("boom");
+        });
+
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class), eq(List.of("job_lease:cleanup:0/1")), eq(jobRunner.owner()));
+    verify(hashOperations)
+        .putAll(
+            eq("job_status:cleanup:0"),
+            argThat(status -> "FAILED".equals(status.get("outcome"))));
+  }
+
+  @Test
+  @DisplayName("Should stop a long run at the next fencing check once its lease is lost")
+  void shouldStopWorkWhenLeaseIsLost() {
+    Duration shortLease = Duration.ofMillis(30);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    when(valueOperations.setIfAbsent("job_lease:cleanup:0/1", jobRunner.owner(), shortLease))
+        .thenReturn(true);
+    when(redisTemplate.execute(
+            any(RedisScript.class),
+            eq(List.of("job_lease:cleanup:0/1")),
+            eq(jobRunner.owner()),
+            eq("30")))
+        .thenReturn(0L);
+    AtomicInteger chunks = new AtomicInteger();
+
+    jobRunner.runExclusive(
+        "cleanup",
+        shortLease,
+        () -> {
+          while (chunks.incrementAndGet() < 1_000) {
+            jobRunner.checkLease();
+            sleep(5);
+          }
+        });
+
+    assertTrue(chunks.get() < 1_000);
+    verify(hashOperations)
+        .putAll(
+            eq("job_status:cleanup:0"),
+            argThat(status -> "LEASE_LOST".equals(status.get("outcome"))));
+  }
+
+  @Test
+  @DisplayName("Should skip every shard while Redis is unavailable")
+  void shouldSkipWhenRedisIsUnavailable() {
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), eq(LEASE)))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    List<JobShard> ran = new ArrayList<>();
+
+    int count = jobRunner.runSharded("promotion", 3, LEASE, ran::add);
+
+    assertEquals(0, count);
+    assertTrue(ran.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Shards should cover the whole user-id space without gaps")
+  void shardsShouldCoverUserIdSpace() {
+    assertEquals(new UUID(0L, 0L), JobShard.of(0, 3).fromUserId());
+    assertEquals(new UUID(-1L, -1L), JobShard.of(2, 3).toUserId());
+    for (int index = 0; index < 2; index++) {
+      UUID to = JobShard.of(index, 3).toUserId();
+      UUID nextFrom = JobShard.of(index + 1, 3).fromUserId();
+      assertEquals(-1L, to.getLeastSignificantBits());
+      assertEquals(to.getMostSignificantBits() + 1, nextFrom.getMostSignificantBits());
+      assertEquals(0L, nextFrom.getLeastSignificantBits());
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package br.com.oriontask.backend.service.karmaservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.karma.dto.ActivityLogDTO;
+import br.com.oriontask.backend.karma.model.KarmaActivity;
+import br.com.oriontask.backend.karma.model.KarmaActivityId;
+import br.com.oriontask.backend.karma.repository.KarmaActivityRepository;
+import br.com.oriontask.backend.karma.service.KarmaActivityService;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KarmaActivityServiceTest {
+
+  private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+
+  @Mock private KarmaActivityRepository repository;
+
+  @InjectMocks private KarmaActivityService karmaActivityService;
+
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(karmaActivityService, "zoneId", ZONE);
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  @DisplayName("Should bump today's counter in place when the row exists")
+  void recordCompletionShouldIncrementExistingRow() {
+    when(repository.increment(eq(userId), any(LocalDate.class), eq(KarmaType.ACTION)))
+        .thenReturn(1);
+
+    karmaActivityService.recordCompletion(userId, KarmaType.ACTION);
+
+    verify(repository, never()).insertFirst(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should create the day's row on the first completion")
+  void recordCompletionShouldInsertFirstRow() {
+    when(repository.increment(eq(userId), any(LocalDate.class), eq(KarmaType.PEOPLE)))
+        .thenReturn(0);
+    when(repository.insertFirst(eq(userId), any(LocalDate.class), eq("PEOPLE"))).thenReturn(1);
+
+    karmaActivityService.recordCompletion(userId, KarmaType.PEOPLE);
+
+    verify(repository, times(1)).increment(eq(userId), any(LocalDate.class), eq(KarmaType.PEOPLE));
+  }
+
+  @Test
+  @DisplayName("Should increment again when a concurrent completion created the row first")
+  void recordCompletionShouldRetryAfterLostInsert() {
+    when(repository.increment(eq(userId), any(LocalDate.class), eq(KarmaType.THINKING)))
+        .thenReturn(0, 1);
+    when(repository.insertFirst(eq(userId), any(LocalDate.class), eq("THINKING"))).thenReturn(0);
+
+    karmaActivityService.recordCompletion(userId, KarmaType.THINKING);
+
+    verify(repository, times(2))
+        .increment(eq(userId), any(LocalDate.class), eq(KarmaType.THINKING));
+  }
+
+  @Test
+  @DisplayName("Should split counters into today and the current week")
+  void getActivityLogShouldSummarizeTodayAndWeek() {
+    LocalDate today = LocalDate.now(ZONE);
+    LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    List<KarmaActivity> rows = new ArrayList<>();
+    rows.add(row(today, KarmaType.ACTION, 3));
+    rows.add(row(today, KarmaType.THINKING, 1));
+    // On Mondays the week holds today only
+    boolean earlierDay = weekStart.isBefore(today);
+    if (earlierDay) {
+      rows.add(row(weekStart, KarmaType.ACTION, 2));
+    }
+    when(repository.findByUserIdAndDateBetween(userId, weekStart, today)).thenReturn(rows);
+
+    ActivityLogDTO log = karmaActivityService.getActivityLog(userId);
+
+    int expectedWeekAction = earlierDay ? 5 : 3;
+    assertEquals(today, log.today());
+    assertEquals(weekStart, log.weekStart());
+    assertEquals(3, log.todayCounts().get(KarmaType.ACTION));
+    assertEquals(0, log.todayCounts().get(KarmaType.PEOPLE));
+    assertEquals(1, log.todayCounts().get(KarmaType.THINKING));
+    assertEquals(expectedWeekAction, log.weekCounts().get(KarmaType.ACTION));
+  }
+
+  private KarmaActivity row(LocalDate date, KarmaType karmaType, int count) {
+    return KarmaActivity.builder()
+        .id(new KarmaActivityId(userId, date, karmaType))
+        .completedCount(count)
+        .build();
+  }
+}
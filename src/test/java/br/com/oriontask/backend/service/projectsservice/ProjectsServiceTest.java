@@ -0,0 +1,137 @@
+package br.com.oriontask.backend.service.projectsservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.projects.dto.NewMilestoneDTO;
+import br.com.oriontask.backend.projects.dto.NewProjectDTO;
+import br.com.oriontask.backend.projects.dto.ProjectDTO;
+import br.com.oriontask.backend.projects.mapper.ProjectsMapper;
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
+import br.com.oriontask.backend.projects.repository.MilestonesRepository;
+import br.com.oriontask.backend.projects.repository.ProjectsRepository;
+import br.com.oriontask.backend.projects.service.ProjectsService;
+import br.com.oriontask.backend.shared.enums.ProjectStatus;
+import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.users.model.Users;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectsServiceTest {
+
+  @Mock private ProjectsRepository repository;
+  @Mock private MilestonesRepository milestonesRepository;
+  @Mock private TasksRepository tasksRepository;
+  @Mock private DharmaLookupService dharmaLookup;
+  @Mock private ProjectsMapper projectsMapper;
+
+  @InjectMocks private ProjectsService projectsService;
+
+  @Test
+  @DisplayName("Should create the project under the owner of the Dharmas")
+  void createShouldUseDharmasOwner() {
+    UUID userId = UUID.randomUUID();
+    Dharmas dharmas = buildDharmas(userId);
+    NewProjectDTO createDTO = new NewProjectDTO(10L, "New site", null);
+    Projects mapped = Projects.builder().title("New site").build();
+
+    when(dharmaLookup.getRequiredDharma(10L, userId)).thenReturn(dharmas);
+    when(projectsMapper.toEntity(createDTO)).thenReturn(mapped);
+    when(repository.save(mapped)).thenReturn(mapped);
+
+    projectsService.create(createDTO, userId);
+
+    assertSame(dharmas, mapped.getDharmas());
+    assertSame(dharmas.getUser(), mapped.getUser());
+    verify(repository).save(mapped);
+  }
+
+  @Test
+  @DisplayName("Should list projects with a single query and no task counts")
+  void listProjectsShouldFilterByDharmas() {
+    UUID userId = UUID.randomUUID();
+    List<Projects> projects = List.of(Projects.builder().id(1L).totalTasks(3).build());
+    List<ProjectDTO> dtos =
+        List.of(new ProjectDTO(1L, 10L, "New site", null, ProjectStatus.ACTIVE, 3, 1, null, null));
+
+    when(repository.findByUserIdAndDharmasIdAndStatusOrderByCreatedAtDesc(
+            userId, 10L, ProjectStatus.ACTIVE))
+        .thenReturn(projects);
+    when(projectsMapper.toDTO(projects)).thenReturn(dtos);
+
+    List<ProjectDTO> result = projectsService.listProjects(userId, 10L, ProjectStatus.ACTIVE);
+
+    assertEquals(dtos, result);
+    verifyNoInteractions(tasksRepository);
+  }
+
+  @Test
+  @DisplayName("Should append the milestone after the existing ones")
+  void addMilestoneShouldTakeNextPosition() {
+    UUID userId = UUID.randomUUID();
+    Projects project = Projects.builder().id(5L).build();
+    NewMilestoneDTO createDTO = new NewMilestoneDTO("Launch");
+    Milestones mapped = Milestones.builder().title("Launch").build();
+
+    when(repository.findByIdAndUserId(5L, userId)).thenReturn(Optional.of(project));
+    when(projectsMapper.toEntity(createDTO)).thenReturn(mapped);
+    when(milestonesRepository.countByProjectId(5L)).thenReturn(2L);
+    when(milestonesRepository.save(mapped)).thenReturn(mapped);
+
+    projectsService.addMilestone(5L, createDTO, userId);
+
+    assertSame(project, mapped.getProject());
+    assertEquals(2, mapped.getPosition());
+  }
+
+  @Test
+  @DisplayName("Should reject milestones on archived projects")
+  void addMilestoneShouldRejectArchivedProject() {
+    UUID userId = UUID.randomUUID();
+    Projects project = Projects.builder().id(6L).status(ProjectStatus.ARCHIVED).build();
+    when(repository.findByIdAndUserId(6L, userId)).thenReturn(Optional.of(project));
+
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> projectsService.addMilestone(6L, new NewMilestoneDTO("Launch"), userId));
+
+    assertEquals("Project is archived", exception.getMessage());
+    verify(milestonesRepository, never()).save(any(Milestones.class));
+  }
+
+  @Test
+  @DisplayName("Should archive the project")
+  void archiveShouldSetArchivedStatus() {
+    UUID userId = UUID.randomUUID();
+    Projects project = Projects.builder().id(7L).build();
+    when(repository.findByIdAndUserId(7L, userId)).thenReturn(Optional.of(project));
+    when(repository.save(project)).thenReturn(project);
+
+    projectsService.archive(7L, userId);
+
+    assertEquals(ProjectStatus.ARCHIVED, project.getStatus());
+  }
+
+  private Dharmas buildDharmas(UUID userId) {
+    Users user = Users.builder().id(userId).build();
+    return Dharmas.builder().id(10L).user(user).build();
+  }
+}
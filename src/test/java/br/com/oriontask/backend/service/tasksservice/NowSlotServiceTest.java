@@ -0,0 +1,56 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.tasks.repository.UserNowSlotsRepository;
+import br.com.oriontask.backend.tasks.service.NowSlotService;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NowSlotServiceTest {
+
+  @Mock private UserNowSlotsRepository repository;
+
+  @InjectMocks private NowSlotService nowSlotService;
+
+  @Test
+  @DisplayName("Should reserve slot when counter is below the limit")
+  void tryReserveShouldIncrementExistingCounter() {
+    UUID userId = UUID.randomUUID();
+    when(repository.incrementIfBelow(userId, 5)).thenReturn(1);
+
+    assertTrue(nowSlotService.tryReserve(userId, 5));
+    verify(repository, never()).insertIfAbsent(any());
+  }
+
+  @Test
+  @DisplayName("Should create missing counter and retry reservation")
+  void tryReserveShouldCreateCounterWhenMissing() {
+    UUID userId = UUID.randomUUID();
+    when(repository.incrementIfBelow(userId, 5)).thenReturn(0, 1);
+    when(repository.insertIfAbsent(userId)).thenReturn(1);
+
+    assertTrue(nowSlotService.tryReserve(userId, 5));
+  }
+
+  @Test
+  @DisplayName("Should refuse reservation when counter is at the limit")
+  void tryReserveShouldFailWhenLimitReached() {
+    UUID userId = UUID.randomUUID();
+    when(repository.incrementIfBelow(userId, 5)).thenReturn(0);
+    when(repository.insertIfAbsent(userId)).thenReturn(0);
+
+    assertFalse(nowSlotService.tryReserve(userId, 5));
+  }
+}
@@ -0,0 +1,214 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.jobs.exception.LeaseLostException;
+import br.com.oriontask.backend.jobs.model.JobShard;
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.shared.enums.TaskEventType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.event.TaskChangedEvent;
+import br.com.oriontask.backend.tasks.event.TaskSnoozedEvent;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.SnoozeWakeUp;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.service.NowSlotService;
+import br.com.oriontask.backend.tasks.service.SnoozeExpiryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SnoozeExpiryServiceTest {
+
+  @Mock private TasksRepository repository;
+  @Mock private NowSlotService nowSlots;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private ClusterJobRunner jobRunner;
+
+  private SnoozeExpiryService snoozeExpiryService;
+
+  @BeforeEach
+  void setUp() {
+    snoozeExpiryService =
+        new SnoozeExpiryService(
+            repository,
+            nowSlots,
+            new TaskStatusTransitionPolicy(nowSlots),
+            new TransactionTemplate(transactionManager),
+            new SimpleMeterRegistry(),
+            jobRunner,
+            eventPublisher);
+    ReflectionTestUtils.setField(snoozeExpiryService, "chunkSize", 500);
+    ReflectionTestUtils.setField(snoozeExpiryService, "shards", 2);
+    ReflectionTestUtils.setField(snoozeExpiryService, "rescanIntervalMs", 300_000L);
+  }
+
+  @Test
+  @DisplayName("Should wake into NOW while slots last and into WAITING after that")
+  void wakeUpShouldRespectNowLimit() {
+    UUID userId = UUID.randomUUID();
+    List<SnoozeWakeUp> due = List.of(wakeUp(1L, userId), wakeUp(2L, userId));
+
+    when(repository.findDueSnoozeWakeUps(eq(List.of(1L, 2L)), eq(TaskStatus.SNOOZED), any()))
+        .thenReturn(due);
+    when(nowSlots.lockCounts(List.of(userId))).thenReturn(Map.of(userId, 4));
+    when(repository.lockDueSnoozedTaskIds(eq(List.of(1L, 2L)), any()))
+        .thenReturn(List.of(1L, 2L));
+    when(repository.updateStatusByIdIn(List.of(1L), TaskStatus.SNOOZED, TaskStatus.NOW))
+        .thenReturn(1);
+    when(repository.updateStatusByIdIn(List.of(2L), TaskStatus.SNOOZED, TaskStatus.WAITING))
+        .thenReturn(1);
+
+    int woken = snoozeExpiryService.wakeUp(List.of(1L, 2L));
+
+    assertEquals(2, woken);
+    verify(nowSlots).reserve(Map.of(userId, 1));
+    verify(eventPublisher)
+        .publishEvent(
+            new TaskChangedEvent(userId, 1L, TaskEventType.STATUS_CHANGED, TaskStatus.NOW));
+    verify(eventPublisher)
+        .publishEvent(
+            new TaskChangedEvent(userId, 2L, TaskEventType.STATUS_CHANGED, TaskStatus.WAITING));
+  }
+
+  @Test
+  @DisplayName("Should skip tasks that left SNOOZED before the lock was taken")
+  void wakeUpShouldSkipTasksNoLongerDue() {
+    UUID userId = UUID.randomUUID();
+
+    when(repository.findDueSnoozeWakeUps(eq(List.of(3L)), eq(TaskStatus.SNOOZED), any()))
+        .thenReturn(List.of(wakeUp(3L, userId)));
+    when(nowSlots.lockCounts(List.of(userId))).thenReturn(Map.of(userId, 0));
+    when(repository.lockDueSnoozedTaskIds(eq(List.of(3L)), any())).thenReturn(List.of());
+
+    assertEquals(0, snoozeExpiryService.wakeUp(List.of(3L)));
+    verify(repository, never()).updateStatusByIdIn(anyList(), any(), any());
+  }
+
+  @Test
+  @DisplayName("Should fire a scheduled wake-up once it is due and ignore duplicates")
+  void tickShouldDrainDueWakeUps() {
+    Timestamp past = new Timestamp(System.currentTimeMillis() - 1000);
+
+    assertTrue(snoozeExpiryService.schedule(4L, past));
+    assertFalse(snoozeExpiryService.schedule(4L, past));
+    when(repository.findDueSnoozeWakeUps(eq(List.of(4L)), eq(TaskStatus.SNOOZED), any()))
+        .thenReturn(List.of());
+
+    snoozeExpiryService.tick();
+
+    verify(repository).findDueSnoozeWakeUps(eq(List.of(4L)), eq(TaskStatus.SNOOZED), any());
+  }
+
+  @Test
+  @DisplayName("Should queue a committed snooze without waiting for the next rescan")
+  void snoozedTaskShouldBeScheduledRightAway() {
+    Timestamp past = new Timestamp(System.currentTimeMillis() - 1000);
+    when(repository.findDueSnoozeWakeUps(eq(List.of(5L)), eq(TaskStatus.SNOOZED), any()))
+        .thenReturn(List.of());
+
+    snoozeExpiryService.onTaskSnoozed(new TaskSnoozedEvent(UUID.randomUUID(), 5L, past));
+    snoozeExpiryService.tick();
+
+    verify(repository).findDueSnoozeWakeUps(eq(List.of(5L)), eq(TaskStatus.SNOOZED), any());
+  }
+
+  @Test
+  @DisplayName("Should only keep the wake-ups of the shards leased in the latest rescan")
+  void rescanShouldQueueOnlyLeasedShards() {
+    JobShard first = JobShard.of(0, 2);
+    JobShard second = JobShard.of(1, 2);
+    when(repository.findSnoozeWakeUps(
+            eq(TaskStatus.SNOOZED), any(), eq(first.fromUserId()), eq(first.toUserId())))
+        .thenReturn(List.of(wakeUp(7L, first.fromUserId())));
+    when(repository.findSnoozeWakeUps(
+            eq(TaskStatus.SNOOZED), any(), eq(second.fromUserId()), eq(second.toUserId())))
+        .thenReturn(List.of(wakeUp(8L, second.fromUserId())));
+    givenLeasedShard(first);
+    snoozeExpiryService.rescanLeasedShards();
+    givenLeasedShard(second);
+    snoozeExpiryService.rescanLeasedShards();
+    when(repository.findDueSnoozeWakeUps(eq(List.of(8L)), eq(TaskStatus.SNOOZED), any()))
+        .thenReturn(List.of());
+
+    snoozeExpiryService.tick();
+
+    verify(repository).findDueSnoozeWakeUps(eq(List.of(8L)), eq(TaskStatus.SNOOZED), any());
+    verify(repository, never())
+        .findDueSnoozeWakeUps(eq(List.of(7L)), eq(TaskStatus.SNOOZED), any());
+  }
+
+  @Test
+  @DisplayName("Should queue nothing from a rescan whose lease was lost meanwhile")
+  void rescanShouldStopWhenLeaseIsLost() {
+    JobShard shard = JobShard.of(0, 2);
+    when(repository.findSnoozeWakeUps(
+            eq(TaskStatus.SNOOZED), any(), eq(shard.fromUserId()), eq(shard.toUserId())))
+        .thenReturn(List.of(wakeUp(9L, shard.fromUserId())));
+    doThrow(new LeaseLostException("job_lease:snooze-expiry:0/2")).when(jobRunner).checkLease();
+
+    assertThrows(LeaseLostException.class, () -> snoozeExpiryService.rescan(shard));
+    snoozeExpiryService.tick();
+
+    verify(repository, never()).findDueSnoozeWakeUps(anyList(), any(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenLeasedShard(JobShard shard) {
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<JobShard>>getArgument(3).accept(shard);
+              return 1;
+            })
+        .when(jobRunner)
+        .runSharded(
+            eq("snooze-expiry"), eq(2), eq(Duration.ofMillis(300_000L)), any(Consumer.class));
+  }
+
+  private SnoozeWakeUp wakeUp(Long taskId, UUID userId) {
+    Timestamp snoozedUntil = new Timestamp(System.currentTimeMillis() - 1000);
+    return new SnoozeWakeUp() {
+      @Override
+      public Long getTaskId() {
+        return taskId;
+      }
+
+      @Override
+      public UUID getUserId() {
+        return userId;
+      }
+
+      @Override
+      public Timestamp getSnoozedUntil() {
+        return snoozedUntil;
+      }
+    };
+  }
+}
@@ -0,0 +1,110 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.shared.enums.EffortLevel;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import br.com.oriontask.backend.shared.enums.TaskExportFormat;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.service.TaskExportService;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+  @Mock private TasksRepository repository;
+  @Mock private TasksMapper tasksMapper;
+  @Mock private EntityManager entityManager;
+
+  private TaskExportService exportService;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    exportService =
+        new TaskExportService(repository, tasksMapper, JsonMapper.builder().build(), entityManager);
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  @DisplayName("Should write one JSON line per task and detach each task once written")
+  void exportShouldWriteNdjson() throws Exception {
+    Tasks first = Tasks.builder().id(1L).build();
+    Tasks second = Tasks.builder().id(2L).build();
+    AtomicBoolean closed = new AtomicBoolean();
+
+    when(repository.streamByUserId(userId))
+        .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+    when(tasksMapper.toDTO(first)).thenReturn(toDTO(1L, "Write report"));
+    when(tasksMapper.toDTO(second)).thenReturn(toDTO(2L, "Review"));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    long rows = exportService.export(userId, TaskExportFormat.NDJSON, output);
+
+    List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+    assertEquals(2, rows);
+    assertEquals(2, lines.size());
+    assertTrue(lines.get(0).contains("\"id\":1,"));
+    assertTrue(lines.get(1).contains("\"title\":\"Review\""));
+    assertTrue(closed.get());
+    verify(entityManager).detach(first);
+    verify(entityManager).detach(second);
+  }
+
+  @Test
+  @DisplayName("Should write a CSV header and quote fields with separators")
+  void exportShouldWriteCsv() throws Exception {
+    Tasks task = Tasks.builder().id(1L).build();
+
+    when(repository.streamByUserId(userId)).thenReturn(Stream.of(task));
+    when(tasksMapper.toDTO(task)).thenReturn(toDTO(1L, "Call \"Bob\", then email"));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    exportService.export(userId, TaskExportFormat.CSV, output);
+
+    List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+    assertEquals(2, lines.size());
+    assertTrue(lines.get(0).startsWith("id,dharmaId,title,"));
+    assertEquals(
+        "1,10,\"Call \"\"Bob\"\", then email\",,ACTION,LOW,WAITING,false,,,"
+            + "1970-01-01T00:00:01Z,1970-01-01T00:00:01Z",
+        lines.get(1));
+  }
+
+  private TaskDTO toDTO(Long id, String title) {
+    return new TaskDTO(
+        id,
+        10L,
+        title,
+        null,
+        KarmaType.ACTION,
+        EffortLevel.LOW,
+        TaskStatus.WAITING,
+        false,
+        null,
+        null,
+        new Timestamp(1_000L),
+        new Timestamp(1_000L));
+  }
+}
@@ -0,0 +1,166 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.shared.enums.TaskExportFormat;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.tasks.dto.NewTaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskImportErrorDTO;
+import br.com.oriontask.backend.tasks.dto.TaskImportReportDTO;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.service.TaskImportService;
+import br.com.oriontask.backend.users.model.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+  @Mock private TasksRepository repository;
+  @Mock private DharmaLookupService dharmaLookup;
+  @Mock private TasksMapper tasksMapper;
+  @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private EntityManager entityManager;
+
+  @Captor private ArgumentCaptor<List<Tasks>> savedCaptor;
+  @Captor private ArgumentCaptor<NewTaskDTO> rowCaptor;
+
+  private TaskImportService importService;
+  private UUID userId;
+  private Dharmas dharma;
+
+  @BeforeEach
+  void setUp() {
+    importService =
+        new TaskImportService(
+            repository,
+            dharmaLookup,
+            tasksMapper,
+            statusPolicy,
+            new TransactionTemplate(transactionManager),
+            entityManager,
+            JsonMapper.builder().build(),
+            Validation.buildDefaultValidatorFactory().getValidator());
+    ReflectionTestUtils.setField(importService, "chunkSize", 2);
+    userId = UUID.randomUUID();
+    dharma =
+        Dharmas.builder().id(10L).user(Users.builder().id(userId).build()).hidden(false).build();
+  }
+
+  @Test
+  @DisplayName("Should import NDJSON in chunks and report bad lines without stopping")
+  void importShouldInsertChunksAndReportBadLines() throws Exception {
+    when(dharmaLookup.getDharmas(Set.of(10L), userId)).thenReturn(Map.of(10L, dharma));
+    when(tasksMapper.toEntity(any())).thenAnswer(invocation -> new Tasks());
+    when(statusPolicy.reserveNowSlots(userId, 2)).thenReturn(1);
+    when(statusPolicy.reserveNowSlots(userId, 1)).thenReturn(0);
+
+    TaskImportReportDTO report =
+        importService.importTasks(
+            userId,
+            TaskExportFormat.NDJSON,
+            body(
+                """
+                {"dharmasId":10,"title":"First task","karmaType":"ACTION","effortLevel":"LOW"}
+                {not json
+                {"dharmasId":10,"title":"Second task","karmaType":"ACTION","effortLevel":"LOW"}
+                {"dharmasId":10,"title":"Bad","karmaType":"ACTION","effortLevel":"LOW"}
+
+                {"dharmasId":10,"title":"Third task","karmaType":"ACTION","effortLevel":"LOW"}
+                """));
+
+    assertEquals(3, report.imported());
+    assertEquals(2, report.failed());
+    assertEquals(List.of(2L, 4L), report.errors().stream().map(TaskImportErrorDTO::line).toList());
+    verify(repository, times(2)).saveAll(savedCaptor.capture());
+    assertEquals(
+        List.of(TaskStatus.NOW, TaskStatus.WAITING),
+        savedCaptor.getAllValues().get(0).stream().map(Tasks::getStatus).toList());
+    assertEquals(
+        List.of(TaskStatus.WAITING),
+        savedCaptor.getAllValues().get(1).stream().map(Tasks::getStatus).toList());
+    verify(entityManager, times(2)).clear();
+  }
+
+  @Test
+  @DisplayName("Should read quoted multi-line CSV fields and reject unknown dharmas")
+  void importShouldParseCsvAndRejectUnknownDharmas() throws Exception {
+    when(dharmaLookup.getDharmas(Set.of(10L, 99L), userId)).thenReturn(Map.of(10L, dharma));
+    when(tasksMapper.toEntity(rowCaptor.capture())).thenReturn(new Tasks());
+    when(statusPolicy.reserveNowSlots(userId, 1)).thenReturn(0);
+
+    TaskImportReportDTO report =
+        importService.importTasks(
+            userId,
+            TaskExportFormat.CSV,
+            body(
+                """
+                id,dharmaId,title,description,karmaType,effortLevel
+                1,10,"Write, report","line one
+                line two",ACTION,LOW
+                2,99,Other task,,ACTION,HIGH
+                """));
+
+    assertEquals(1, report.imported());
+    assertEquals(List.of(new TaskImportErrorDTO(4, "Dharmas not found")), report.errors());
+    assertEquals("Write, report", rowCaptor.getValue().title());
+    assertEquals("line one\nline two", rowCaptor.getValue().description());
+  }
+
+  @Test
+  @DisplayName("Should report every row of a chunk the database rejects")
+  void importShouldReportRolledBackChunk() throws Exception {
+    when(dharmaLookup.getDharmas(Set.of(10L), userId)).thenReturn(Map.of(10L, dharma));
+    when(tasksMapper.toEntity(any())).thenAnswer(invocation -> new Tasks());
+    when(statusPolicy.reserveNowSlots(userId, 2)).thenReturn(0);
+    when(repository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("boom"));
+
+    TaskImportReportDTO report =
+        importService.importTasks(
+            userId,
+            TaskExportFormat.NDJSON,
+            body(
+                """
+                {"dharmasId":10,"title":"First task","karmaType":"ACTION","effortLevel":"LOW"}
+                {"dharmasId":10,"title":"Second task","karmaType":"ACTION","effortLevel":"LOW"}
+                """));
+
+    assertEquals(0, report.imported());
+    assertEquals(List.of(1L, 2L), report.errors().stream().map(TaskImportErrorDTO::line).toList());
+  }
+
+  private InputStream body(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,130 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.shared.enums.EffortLevel;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSearchCursor;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
+import br.com.oriontask.backend.tasks.exception.InvalidSearchQueryException;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.service.LikeTaskSearchEngine;
+import br.com.oriontask.backend.tasks.service.TaskSearchEngine;
+import br.com.oriontask.backend.tasks.service.TaskSearchService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchServiceTest {
+
+  @Mock private TaskSearchEngine searchEngine;
+  @Mock private TasksRepository repository;
+
+  @InjectMocks private TaskSearchService searchService;
+
+  @Test
+  @DisplayName("Should keep relevance order and return the cursor of the last match")
+  void searchShouldReturnRankedSlice() {
+    UUID userId = UUID.randomUUID();
+    TaskSearchCursor best = new TaskSearchCursor(0.9f, 3L);
+    TaskSearchCursor second = new TaskSearchCursor(0.4f, 7L);
+    TaskSearchCursor extra = new TaskSearchCursor(0.1f, 1L);
+
+    when(searchEngine.findMatches(userId, "report", TaskSearchCursor.FIRST, 3))
+        .thenReturn(List.of(best, second, extra));
+    when(repository.findDTOsByIdInAndUserId(List.of(3L, 7L), userId))
+        .thenReturn(List.of(toDTO(7L), toDTO(3L)));
+
+    TaskSliceDTO result = searchService.search(userId, " report ", null, 2);
+
+    assertEquals(List.of(3L, 7L), result.items().stream().map(TaskDTO::id).toList());
+    assertTrue(result.hasNext());
+    assertEquals(second, TaskSearchCursor.decode(result.nextCursor()));
+  }
+
+  @Test
+  @DisplayName("Should stop paging when the engine returns no extra match")
+  void searchShouldEndOnLastSlice() {
+    UUID userId = UUID.randomUUID();
+    TaskSearchCursor after = new TaskSearchCursor(0.4f, 7L);
+
+    when(searchEngine.findMatches(userId, "report", after, 3))
+        .thenReturn(List.of(new TaskSearchCursor(0.1f, 1L)));
+    when(repository.findDTOsByIdInAndUserId(List.of(1L), userId)).thenReturn(List.of(toDTO(1L)));
+
+    TaskSliceDTO result = searchService.search(userId, "report", after.encode(), 2);
+
+    assertEquals(1, result.items().size());
+    assertFalse(result.hasNext());
+    assertNull(result.nextCursor());
+  }
+
+  @Test
+  @DisplayName("Should cap the slice size so a huge size cannot load every match")
+  void searchShouldClampSize() {
+    UUID userId = UUID.randomUUID();
+    when(searchEngine.findMatches(userId, "report", TaskSearchCursor.FIRST, 101))
+        .thenReturn(List.of());
+    when(repository.findDTOsByIdInAndUserId(List.of(), userId)).thenReturn(List.of());
+
+    TaskSliceDTO result = searchService.search(userId, "report", null, 10_000);
+
+    assertTrue(result.items().isEmpty());
+    assertFalse(result.hasNext());
+  }
+
+  @Test
+  @DisplayName("Should reject blank queries before searching")
+  void searchShouldRejectBlankQuery() {
+    assertThrows(
+        InvalidSearchQueryException.class,
+        () -> searchService.search(UUID.randomUUID(), "  ", null, 20));
+    verifyNoInteractions(searchEngine, repository);
+  }
+
+  @Test
+  @DisplayName("LIKE fallback should escape wildcards in the query")
+  void likeEngineShouldEscapeWildcards() {
+    UUID userId = UUID.randomUUID();
+    when(repository.searchByPatternBefore(
+            userId, "%50\\% off\\_now%", Long.MAX_VALUE, PageRequest.ofSize(5)))
+        .thenReturn(List.of(4L));
+
+    List<TaskSearchCursor> matches =
+        new LikeTaskSearchEngine(repository)
+            .findMatches(userId, "50% OFF_now", TaskSearchCursor.FIRST, 5);
+
+    assertEquals(List.of(new TaskSearchCursor(0f, 4L)), matches);
+  }
+
+  private TaskDTO toDTO(Long id) {
+    return new TaskDTO(
+        id,
+        10L,
+        "Quarterly report",
+        null,
+        KarmaType.ACTION,
+        EffortLevel.LOW,
+        TaskStatus.WAITING,
+        false,
+        null,
+        null,
+        null,
+        null);
+  }
+}
@@ -0,0 +1,214 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.shared.enums.EffortLevel;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import br.com.oriontask.backend.shared.enums.SyncEntityType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.dto.TaskChangeCursor;
+import br.com.oriontask.backend.tasks.dto.TaskChangesDTO;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TombstoneDTO;
+import br.com.oriontask.backend.tasks.exception.SyncCursorExpiredException;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.model.Tombstone;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.repository.TombstoneRepository;
+import br.com.oriontask.backend.tasks.service.TaskSyncService;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceTest {
+
+  private static final long SETTLED = 60_000;
+
+  @Mock private TasksRepository tasksRepository;
+  @Mock private TombstoneRepository tombstoneRepository;
+  @Mock private TasksMapper mapper;
+  @Mock private ClusterJobRunner jobRunner;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private TaskSyncService syncService;
+  private UUID userId;
+
+  @BeforeEach
+  void setUp() {
+    syncService =
+        new TaskSyncService(
+            tasksRepository,
+            tombstoneRepository,
+            mapper,
+            jobRunner,
+            new TransactionTemplate(transactionManager));
+    ReflectionTestUtils.setField(syncService, "retentionDays", 30);
+    ReflectionTestUtils.setField(syncService, "compactionChunkSize", 2);
+    userId = UUID.randomUUID();
+  }
+
+  @Test
+  @DisplayName("Should merge updated tasks and tombstones in change sequence order")
+  void changesShouldMergeBySequence() {
+    String since = new TaskChangeCursor(2, Instant.now()).encode();
+    when(tasksRepository.findChangedAfter(userId, 2L, PageRequest.ofSize(11)))
+        .thenReturn(List.of(task(3L, SETTLED), task(7L, SETTLED)));
+    when(tombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(
+            userId, 2L, PageRequest.ofSize(11)))
+        .thenReturn(List.of(tombstone(5L, 40L, SETTLED)));
+    stubWatermark();
+    stubMapper();
+
+    TaskChangesDTO result = syncService.changesSince(userId, since, 10);
+
+    assertEquals(List.of(3L, 7L), result.changed().stream().map(TaskDTO::id).toList());
+    assertEquals(List.of(40L), result.deleted().stream().map(TombstoneDTO::id).toList());
+    assertEquals(SyncEntityType.TASK, result.deleted().getFirst().type());
+    assertEquals(7L, TaskChangeCursor.decode(result.nextCursor()).changeSeq());
+    assertFalse(result.hasMore());
+  }
+
+  @Test
+  @DisplayName("Should cut the merged feed at the limit and report more changes")
+  void changesShouldStopAtLimit() {
+    String since = new TaskChangeCursor(2, Instant.now()).encode();
+    when(tasksRepository.findChangedAfter(userId, 2L, PageRequest.ofSize(3)))
+        .thenReturn(List.of(task(3L, SETTLED), task(6L, SETTLED), task(8L, SETTLED)));
+    when(tombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(
+            userId, 2L, PageRequest.ofSize(3)))
+        .thenReturn(List.of(tombstone(4L, 40L, SETTLED)));
+    stubWatermark();
+    stubMapper();
+
+    TaskChangesDTO result = syncService.changesSince(userId, since, 2);
+
+    assertEquals(List.of(3L), result.changed().stream().map(TaskDTO::id).toList());
+    assertEquals(1, result.deleted().size());
+    assertEquals(4L, TaskChangeCursor.decode(result.nextCursor()).changeSeq());
+    assertTrue(result.hasMore());
+  }
+
+  @Test
+  @DisplayName("Should not move the cursor past changes stamped after the database watermark")
+  void changesShouldStopAtChangeAfterWatermark() {
+    String since = new TaskChangeCursor(2, Instant.now()).encode();
+    when(tasksRepository.findChangedAfter(userId, 2L, PageRequest.ofSize(11)))
+        .thenReturn(List.of(task(3L, SETTLED), task(5L, 0)));
+    when(tombstoneRepository.findByUserIdAndChangeSeqGreaterThanOrderByChangeSeq(
+            userId, 2L, PageRequest.ofSize(11)))
+        .thenReturn(List.of(tombstone(9L, 40L, SETTLED)));
+    stubWatermark();
+    stubMapper();
+
+    TaskChangesDTO result = syncService.changesSince(userId, since, 10);
+
+    assertEquals(List.of(3L), result.changed().stream().map(TaskDTO::id).toList());
+    assertTrue(result.deleted().isEmpty());
+    assertEquals(3L, TaskChangeCursor.decode(result.nextCursor()).changeSeq());
+    assertFalse(result.hasMore());
+  }
+
+  @Test
+  @DisplayName("Should skip tombstones on a first sync")
+  void initialSyncShouldSkipTombstones() {
+    when(tasksRepository.findChangedAfter(userId, 0L, PageRequest.ofSize(11)))
+        .thenReturn(List.of(task(3L, SETTLED)));
+    stubWatermark();
+    stubMapper();
+
+    TaskChangesDTO result = syncService.changesSince(userId, null, 10);
+
+    assertEquals(1, result.changed().size());
+    assertEquals(3L, TaskChangeCursor.decode(result.nextCursor()).changeSeq());
+    verifyNoInteractions(tombstoneRepository);
+  }
+
+  @Test
+  @DisplayName("Should refuse cursors older than the tombstone retention")
+  void changesShouldRejectExpiredCursor() {
+    String since = new TaskChangeCursor(2, Instant.now().minus(Duration.ofDays(31))).encode();
+
+    assertThrows(
+        SyncCursorExpiredException.class, () -> syncService.changesSince(userId, since, 10));
+    verifyNoInteractions(tasksRepository, tombstoneRepository);
+  }
+
+  @Test
+  @DisplayName("Should purge expired tombstones in chunks until a short chunk")
+  void compactTombstonesShouldPurgeInChunks() {
+    when(tombstoneRepository.deleteOlderThan(any(Timestamp.class), eq(2))).thenReturn(2, 1);
+
+    int purged = syncService.compactTombstones();
+
+    assertEquals(3, purged);
+    verify(tombstoneRepository, times(2)).deleteOlderThan(any(Timestamp.class), eq(2));
+  }
+
+  /** Changes older than a second are final; younger ones may still have a slower neighbour. */
+  private void stubWatermark() {
+    when(tasksRepository.findChangeWatermark())
+        .thenReturn(new Timestamp(System.currentTimeMillis() - 1000));
+  }
+
+  private void stubMapper() {
+    when(mapper.toDTO(any(Tasks.class))).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+  }
+
+  private static TaskDTO toDTO(Tasks task) {
+    return new TaskDTO(
+        task.getId(),
+        10L,
+        "Synced task",
+        null,
+        KarmaType.ACTION,
+        EffortLevel.LOW,
+        TaskStatus.WAITING,
+        false,
+        null,
+        null,
+        null,
+        task.getUpdatedAt());
+  }
+
+  private static Tasks task(Long changeSeq, long ageMillis) {
+    return Tasks.builder()
+        .id(changeSeq)
+        .changeSeq(changeSeq)
+        .changedAt(new Timestamp(System.currentTimeMillis() - ageMillis))
+        .updatedAt(new Timestamp(System.currentTimeMillis() - ageMillis))
+        .build();
+  }
+
+  private static Tombstone tombstone(Long changeSeq, Long entityId, long ageMillis) {
+    return Tombstone.builder()
+        .changeSeq(changeSeq)
+        .entityType(SyncEntityType.TASK)
+        .entityId(entityId)
+        .deletedAt(new Timestamp(System.currentTimeMillis() - ageMillis))
+        .build();
+  }
+}
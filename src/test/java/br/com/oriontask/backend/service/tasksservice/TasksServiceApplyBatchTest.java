@@ -0,0 +1,168 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.shared.enums.TaskBatchOperationType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
+import br.com.oriontask.backend.tasks.dto.NewTaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskBatchOperationDTO;
+import br.com.oriontask.backend.tasks.dto.TaskBatchResultDTO;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.service.TasksService;
+import br.com.oriontask.backend.users.model.Users;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class TasksServiceApplyBatchTest {
+
+  @Mock private TasksRepository repository;
+  @Mock private DharmaLookupService dharmaLookup;
+  @Mock private ProjectLookupService projectLookup;
+  @Mock private TasksMapper tasksMapper;
+  @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private KarmaActivityRecorder karmaActivity;
+  @Mock private ProjectProgressRecorder projectProgress;
+
+  @InjectMocks private TasksService tasksService;
+
+  @Test
+  @DisplayName("Should apply operations in order against tasks loaded once")
+  void applyBatchShouldApplyOperationsInOrder() {
+    UUID userId = UUID.randomUUID();
+    Dharmas dharma = buildDharma(userId);
+    Tasks existing = buildTask(1L, dharma, TaskStatus.WAITING);
+    Tasks removed = buildTask(2L, dharma, TaskStatus.NOW);
+    NewTaskDTO createDTO = new NewTaskDTO(10L, "Offline task", null, null, null, null, null);
+    Tasks created = buildTask(3L, dharma, null);
+
+    when(repository.findByIdInAndUserId(Set.of(1L, 2L), userId))
+        .thenReturn(List.of(existing, removed));
+    when(dharmaLookup.getRequiredDharma(10L, userId)).thenReturn(dharma);
+    when(tasksMapper.toEntity(createDTO)).thenReturn(created);
+    when(statusPolicy.initialStatusFor(userId)).thenReturn(TaskStatus.WAITING);
+    when(repository.save(created)).thenReturn(created);
+    when(tasksMapper.toDTO(any(Tasks.class)))
+        .thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+
+    List<TaskBatchResultDTO> results =
+        tasksService.applyBatch(
+            List.of(
+                new TaskBatchOperationDTO(
+                    TaskBatchOperationType.CREATE, null, createDTO, null, null),
+                new TaskBatchOperationDTO(TaskBatchOperationType.NOW, 1L, null, null, null),
+                new TaskBatchOperationDTO(TaskBatchOperationType.DELETE, 2L, null, null, null)),
+            userId);
+
+    assertEquals(3, results.size());
+    assertEquals(3L, results.get(0).taskId());
+    assertEquals(TaskStatus.WAITING, results.get(0).task().status());
+    assertEquals(1L, results.get(1).taskId());
+    assertNull(results.get(2).task());
+
+    InOrder order = inOrder(statusPolicy, repository);
+    order.verify(repository).save(created);
+    order.verify(statusPolicy).markAsNow(existing);
+    order.verify(statusPolicy).releaseNowSlot(removed);
+    order.verify(repository).delete(removed);
+  }
+
+  @Test
+  @DisplayName("Should reject an operation without its required field")
+  void applyBatchShouldRejectMissingTaskId() {
+    UUID userId = UUID.randomUUID();
+    when(repository.findByIdInAndUserId(Set.of(), userId)).thenReturn(List.of());
+
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                tasksService.applyBatch(
+                    List.of(
+                        new TaskBatchOperationDTO(
+                            TaskBatchOperationType.DONE, null, null, null, null)),
+                    userId));
+
+    assertEquals("Operation 0: taskId is required", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Should fail when an operation targets a task deleted earlier in the batch")
+  void applyBatchShouldFailOnTaskDeletedEarlier() {
+    UUID userId = UUID.randomUUID();
+    Tasks task = buildTask(5L, buildDharma(userId), TaskStatus.WAITING);
+    when(repository.findByIdInAndUserId(Set.of(5L), userId)).thenReturn(List.of(task));
+
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                tasksService.applyBatch(
+                    List.of(
+                        new TaskBatchOperationDTO(
+                            TaskBatchOperationType.DELETE, 5L, null, null, null),
+                        new TaskBatchOperationDTO(
+                            TaskBatchOperationType.SNOOZE, 5L, null, null, null)),
+                    userId));
+
+    assertEquals("Operation 1: Task not found", exception.getMessage());
+    verify(statusPolicy, never()).snoozeTask(any(Tasks.class));
+  }
+
+  private Dharmas buildDharma(UUID userId) {
+    Users user = Users.builder().id(userId).build();
+    return Dharmas.builder().id(10L).user(user).hidden(false).build();
+  }
+
+  private Tasks buildTask(Long taskId, Dharmas dharmas, TaskStatus status) {
+    return Tasks.builder()
+        .id(taskId)
+        .dharmas(dharmas)
+        .user(dharmas.getUser())
+        .title("Task title")
+        .status(status)
+        .build();
+  }
+
+  private TaskDTO toDTO(Tasks task) {
+    return new TaskDTO(
+        task.getId(),
+        task.getDharmas().getId(),
+        task.getTitle(),
+        task.getDescription(),
+        task.getKarmaType(),
+        task.getEffortLevel(),
+        task.getStatus(),
+        task.getHidden(),
+        task.getCompletedAt(),
+        task.getSnoozedUntil(),
+        task.getCreatedAt(),
+        task.getUpdatedAt());
+  }
+}
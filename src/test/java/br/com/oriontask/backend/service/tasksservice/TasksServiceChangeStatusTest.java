@@ -5,14 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import br.com.oriontask.backend.dharmas.model.Dharmas;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
 import br.com.oriontask.backend.tasks.dto.TaskDTO;
 import br.com.oriontask.backend.tasks.exception.InvalidSnoozedStatusTransitionException;
 import br.com.oriontask.backend.tasks.exception.NowTasksLimitExceededException;
@@ -21,18 +24,19 @@ import br.com.oriontask.backend.tasks.mapper.TasksMapper;
 import br.com.oriontask.backend.tasks.model.Tasks;
 import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
 import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.service.NowSlotService;
 import br.com.oriontask.backend.tasks.service.TasksService;
 import br.com.oriontask.backend.users.model.Users;
 import java.sql.Timestamp;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TasksServiceChangeStatusTest {
@@ -41,11 +45,36 @@ class TasksServiceChangeStatusTest {
 
   @Mock private DharmaLookupService dharmaLookup;
 
+  @Mock private ProjectLookupService projectLookup;
+
   @Mock private TasksMapper tasksMapper;
 
-  @Spy private TaskStatusTransitionPolicy statusPolicy = new TaskStatusTransitionPolicy();
+  @Mock private NowSlotService nowSlots;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private KarmaActivityRecorder karmaActivity;
+
+  @Mock private ProjectProgressRecorder projectProgress;
 
-  @InjectMocks private TasksService tasksService;
+  private TaskStatusTransitionPolicy statusPolicy;
+
+  private TasksService tasksService;
+
+  @BeforeEach
+  void setUp() {
+    statusPolicy = spy(new TaskStatusTransitionPolicy(nowSlots));
+    tasksService =
+        new TasksService(
+            repository,
+            dharmaLookup,
+            projectLookup,
+            tasksMapper,
+            statusPolicy,
+            eventPublisher,
+            karmaActivity,
+            projectProgress);
+  }
 
   @Test
   @DisplayName("Should throw when task does not exist")
@@ -82,7 +111,7 @@ class TasksServiceChangeStatusTest {
     UUID userId = task.getDharmas().getUser().getId();
 
     when(repository.findByIdAndUserId(2L, userId)).thenReturn(Optional.of(task));
-    when(repository.countByDharmasUserIdAndStatus(userId, TaskStatus.NOW)).thenReturn(5L);
+    when(nowSlots.tryReserve(userId, 5)).thenReturn(false);
 
     NowTasksLimitExceededException exception =
         assertThrows(
@@ -100,9 +129,6 @@ class TasksServiceChangeStatusTest {
     UUID userId = task.getDharmas().getUser().getId();
 
     when(repository.findByIdAndUserId(3L, userId)).thenReturn(Optional.of(task));
-    when(repository.countByDharmasUserIdAndStatus(
-            eq(task.getDharmas().getUser().getId()), eq(TaskStatus.NOW)))
-        .thenReturn(0L);
 
     InvalidSnoozedStatusTransitionException exception =
         assertThrows(
@@ -112,6 +138,7 @@ class TasksServiceChangeStatusTest {
     assertEquals(
         "To snooze a task, use the snoozeTask method from the policy", exception.getMessage());
     verify(repository, never()).save(any(Tasks.class));
+    verify(nowSlots, never()).release(userId);
   }
 
   @Test
@@ -122,9 +149,7 @@ class TasksServiceChangeStatusTest {
     task.setSnoozedUntil(new Timestamp(System.currentTimeMillis() + 3600000));
 
     when(repository.findByIdAndUserId(4L, userId)).thenReturn(Optional.of(task));
-    when(repository.countByDharmasUserIdAndStatus(
-            eq(task.getDharmas().getUser().getId()), eq(TaskStatus.NOW)))
-        .thenReturn(1L);
+    when(nowSlots.tryReserve(userId, 5)).thenReturn(true);
     when(repository.save(any(Tasks.class))).thenAnswer(invocation -> invocation.getArgument(0));
     stubMapperToDTO();
 
@@ -145,15 +170,13 @@ class TasksServiceChangeStatusTest {
     UUID userId = task.getDharmas().getUser().getId();
 
     when(repository.findByIdAndUserId(5L, userId)).thenReturn(Optional.of(task));
-    when(repository.countByDharmasUserIdAndStatus(
-            eq(task.getDharmas().getUser().getId()), eq(TaskStatus.NOW)))
-        .thenReturn(1L);
     when(repository.save(any(Tasks.class))).thenAnswer(invocation -> invocation.getArgument(0));
     stubMapperToDTO();
 
     TaskDTO result = tasksService.changeStatus(5L, TaskStatus.NEXT, userId);
 
     assertEquals(TaskStatus.WAITING, result.status());
+    verify(nowSlots).release(userId);
     verify(repository).save(task);
   }
 
@@ -164,6 +187,7 @@ class TasksServiceChangeStatusTest {
     return Tasks.builder()
         .id(taskId)
         .dharmas(dharmas)
+        .user(user)
         .title("Task title")
         .description("Task description")
         .status(status)
@@ -1,12 +1,22 @@
 package br.com.oriontask.backend.service.tasksservice;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
 import br.com.oriontask.backend.tasks.dto.NewTaskDTO;
 import br.com.oriontask.backend.tasks.dto.TaskDTO;
 import br.com.oriontask.backend.tasks.mapper.TasksMapper;
@@ -23,14 +33,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TasksServiceCreateTest {
 
   @Mock private TasksRepository repository;
   @Mock private DharmaLookupService dharmaLookup;
+  @Mock private ProjectLookupService projectLookup;
   @Mock private TasksMapper tasksMapper;
   @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private KarmaActivityRecorder karmaActivity;
+  @Mock private ProjectProgressRecorder projectProgress;
 
   @InjectMocks private TasksService tasksService;
 
@@ -39,12 +54,12 @@ class TasksServiceCreateTest {
   void createShouldSetNowWhenLimitNotReached() {
     UUID userId = UUID.randomUUID();
     Dharmas dharma = buildDharma(userId, 10L, false);
-    NewTaskDTO createDTO = new NewTaskDTO(10L, "Nova tarefa", "Desc", null, null);
+    NewTaskDTO createDTO = new NewTaskDTO(10L, "Nova tarefa", "Desc", null, null, null, null);
     Tasks mapped = Tasks.builder().title("Nova tarefa").description("Desc").build();
 
     when(dharmaLookup.getRequiredDharma(10L, userId)).thenReturn(dharma);
     when(tasksMapper.toEntity(createDTO)).thenReturn(mapped);
-    when(repository.countByDharmasUserIdAndStatus(userId, TaskStatus.NOW)).thenReturn(4L);
+    when(statusPolicy.initialStatusFor(userId)).thenReturn(TaskStatus.NOW);
     when(repository.save(mapped)).thenReturn(mapped);
     when(tasksMapper.toDTO(mapped)).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
 
@@ -59,12 +74,12 @@ class TasksServiceCreateTest {
   void createShouldSetWaitingWhenLimitReached() {
     UUID userId = UUID.randomUUID();
     Dharmas dharma = buildDharma(userId, 11L, true);
-    NewTaskDTO createDTO = new NewTaskDTO(11L, "Outra tarefa", "Desc", null, null);
+    NewTaskDTO createDTO = new NewTaskDTO(11L, "Outra tarefa", "Desc", null, null, null, null);
     Tasks mapped = Tasks.builder().title("Outra tarefa").description("Desc").build();
 
     when(dharmaLookup.getRequiredDharma(11L, userId)).thenReturn(dharma);
     when(tasksMapper.toEntity(createDTO)).thenReturn(mapped);
-    when(repository.countByDharmasUserIdAndStatus(userId, TaskStatus.NOW)).thenReturn(5L);
+    when(statusPolicy.initialStatusFor(userId)).thenReturn(TaskStatus.WAITING);
     when(repository.save(mapped)).thenReturn(mapped);
     when(tasksMapper.toDTO(mapped)).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
 
@@ -74,6 +89,49 @@ class TasksServiceCreateTest {
     verify(repository).save(mapped);
   }
 
+  @Test
+  @DisplayName("Should assign project and milestone and count the new task on both")
+  void createShouldAssignProjectAndAdjustProgress() {
+    UUID userId = UUID.randomUUID();
+    Dharmas dharma = buildDharma(userId, 12L, false);
+    NewTaskDTO createDTO = new NewTaskDTO(12L, "Project task", null, null, null, 5L, 6L);
+    Tasks mapped = Tasks.builder().title("Project task").build();
+    Projects project = Projects.builder().id(5L).dharmas(dharma).build();
+    Milestones milestone = Milestones.builder().id(6L).project(project).build();
+
+    when(dharmaLookup.getRequiredDharma(12L, userId)).thenReturn(dharma);
+    when(tasksMapper.toEntity(createDTO)).thenReturn(mapped);
+    when(projectLookup.getAssignableProject(5L, 12L, userId)).thenReturn(project);
+    when(projectLookup.getRequiredMilestone(6L, 5L)).thenReturn(milestone);
+    when(statusPolicy.initialStatusFor(userId)).thenReturn(TaskStatus.WAITING);
+    when(repository.save(mapped)).thenReturn(mapped);
+    when(tasksMapper.toDTO(mapped)).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+
+    tasksService.create(createDTO, userId);
+
+    assertSame(project, mapped.getProject());
+    assertSame(milestone, mapped.getMilestone());
+    verify(projectProgress).adjustProgress(5L, 6L, 1, 0);
+  }
+
+  @Test
+  @DisplayName("Should reject a milestone without its project")
+  void createShouldRejectMilestoneWithoutProject() {
+    UUID userId = UUID.randomUUID();
+    Dharmas dharma = buildDharma(userId, 13L, false);
+    NewTaskDTO createDTO = new NewTaskDTO(13L, "Loose task", null, null, null, null, 6L);
+
+    when(dharmaLookup.getRequiredDharma(13L, userId)).thenReturn(dharma);
+    when(tasksMapper.toEntity(createDTO)).thenReturn(Tasks.builder().build());
+
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> tasksService.create(createDTO, userId));
+
+    assertEquals("milestoneId requires projectId", exception.getMessage());
+    verify(repository, never()).save(any(Tasks.class));
+    verifyNoInteractions(projectProgress);
+  }
+
   private Dharmas buildDharma(UUID userId, Long dharmaId, boolean hidden) {
     Users user = Users.builder().id(userId).build();
     return Dharmas.builder().id(dharmaId).user(user).hidden(hidden).build();
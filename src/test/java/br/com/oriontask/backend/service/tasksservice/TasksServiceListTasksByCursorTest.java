@@ -0,0 +1,187 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
+import br.com.oriontask.backend.tasks.dto.TaskCursor;
+import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.dto.TaskSliceDTO;
+import br.com.oriontask.backend.tasks.exception.InvalidTaskCursorException;
+import br.com.oriontask.backend.tasks.mapper.TasksMapper;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.service.TasksService;
+import br.com.oriontask.backend.users.model.Users;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class TasksServiceListTasksByCursorTest {
+
+  @Mock private TasksRepository repository;
+  @Mock private DharmaLookupService dharmaLookup;
+  @Mock private ProjectLookupService projectLookup;
+  @Mock private TasksMapper tasksMapper;
+  @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private KarmaActivityRecorder karmaActivity;
+  @Mock private ProjectProgressRecorder projectProgress;
+
+  @InjectMocks private TasksService tasksService;
+
+  @Test
+  @DisplayName("Should start from the first position and return cursor of the last task")
+  void listTasksByCursorShouldReturnNextCursor() {
+    UUID userId = UUID.randomUUID();
+    TaskDTO newer = toDTO(buildTask(2L, new Timestamp(2_000L)));
+    TaskDTO older = toDTO(buildTask(1L, new Timestamp(1_000L)));
+
+    when(repository.findByUserIdBefore(
+            userId, TaskCursor.FIRST.createdAt(), Long.MAX_VALUE, PageRequest.ofSize(2)))
+        .thenReturn(new SliceImpl<>(List.of(newer, older), PageRequest.ofSize(2), true));
+
+    TaskSliceDTO result = tasksService.listTasksByCursor(userId, null, null, null, 2);
+
+    assertEquals(2, result.items().size());
+    assertTrue(result.hasNext());
+    TaskCursor next = TaskCursor.decode(result.nextCursor());
+    assertEquals(older.createdAt(), next.createdAt());
+    assertEquals(1L, next.id());
+  }
+
+  @Test
+  @DisplayName("Should continue after the decoded cursor and stop on the last slice")
+  void listTasksByCursorShouldResumeFromCursor() {
+    UUID userId = UUID.randomUUID();
+    Timestamp createdAt = new Timestamp(5_000L);
+    String cursor = new TaskCursor(createdAt, 7L).encode();
+
+    when(repository.findByUserIdAndStatusBefore(
+            userId, TaskStatus.DONE, createdAt, 7L, PageRequest.ofSize(20)))
+        .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(20), false));
+
+    TaskSliceDTO result =
+        tasksService.listTasksByCursor(userId, null, TaskStatus.DONE, cursor, 20);
+
+    assertFalse(result.hasNext());
+    assertNull(result.nextCursor());
+  }
+
+  @Test
+  @DisplayName("Should clamp the requested size into the allowed range")
+  void listTasksByCursorShouldClampSize() {
+    UUID userId = UUID.randomUUID();
+    when(repository.findByUserIdBefore(
+            userId, TaskCursor.FIRST.createdAt(), Long.MAX_VALUE, PageRequest.ofSize(1)))
+        .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(1), false));
+    when(repository.findByUserIdBefore(
+            userId,
+            TaskCursor.FIRST.createdAt(),
+            Long.MAX_VALUE,
+            PageRequest.ofSize(TasksService.MAX_PAGE_SIZE)))
+        .thenReturn(
+            new SliceImpl<>(List.of(), PageRequest.ofSize(TasksService.MAX_PAGE_SIZE), false));
+
+    TaskSliceDTO smallest = tasksService.listTasksByCursor(userId, null, null, null, 0);
+    TaskSliceDTO largest = tasksService.listTasksByCursor(userId, null, null, null, 10_000);
+
+    verify(repository)
+        .findByUserIdBefore(
+            userId, TaskCursor.FIRST.createdAt(), Long.MAX_VALUE, PageRequest.ofSize(1));
+    verify(repository)
+        .findByUserIdBefore(
+            userId,
+            TaskCursor.FIRST.createdAt(),
+            Long.MAX_VALUE,
+            PageRequest.ofSize(TasksService.MAX_PAGE_SIZE));
+    assertTrue(smallest.items().isEmpty());
+    assertFalse(smallest.hasNext());
+    assertNull(smallest.nextCursor());
+    assertTrue(largest.items().isEmpty());
+    assertFalse(largest.hasNext());
+    assertNull(largest.nextCursor());
+  }
+
+  @Test
+  @DisplayName("Should list open tasks of one dharma through the open-task query")
+  void listOpenTasksByCursorShouldLeaveOutDoneTasks() {
+    UUID userId = UUID.randomUUID();
+    TaskDTO open = toDTO(buildTask(3L, new Timestamp(3_000L)));
+
+    when(repository.findOpenByUserIdAndDharmasIdBefore(
+            userId, 100L, TaskCursor.FIRST.createdAt(), Long.MAX_VALUE, PageRequest.ofSize(20)))
+        .thenReturn(new SliceImpl<>(List.of(open), PageRequest.ofSize(20), false));
+
+    TaskSliceDTO result = tasksService.listOpenTasksByCursor(userId, 100L, null, 20);
+
+    assertEquals(List.of(open), result.items());
+    assertFalse(result.hasNext());
+    assertNull(result.nextCursor());
+  }
+
+  @Test
+  @DisplayName("Should reject a malformed cursor")
+  void listTasksByCursorShouldRejectInvalidCursor() {
+    UUID userId = UUID.randomUUID();
+
+    assertThrows(
+        InvalidTaskCursorException.class,
+        () -> tasksService.listTasksByCursor(userId, null, null, "not-a-cursor", 20));
+    verify(repository, never()).findByUserIdBefore(any(), any(), any(), any());
+  }
+
+  private Tasks buildTask(Long taskId, Timestamp createdAt) {
+    Users user = Users.builder().id(UUID.randomUUID()).build();
+    Dharmas dharmas = Dharmas.builder().id(100L).user(user).build();
+
+    return Tasks.builder()
+        .id(taskId)
+        .dharmas(dharmas)
+        .user(user)
+        .title("Task title")
+        .status(TaskStatus.WAITING)
+        .createdAt(createdAt)
+        .updatedAt(createdAt)
+        .build();
+  }
+
+  private TaskDTO toDTO(Tasks task) {
+    return new TaskDTO(
+        task.getId(),
+        task.getDharmas().getId(),
+        task.getTitle(),
+        task.getDescription(),
+        task.getKarmaType(),
+        task.getEffortLevel(),
+        task.getStatus(),
+        task.getHidden(),
+        task.getCompletedAt(),
+        task.getSnoozedUntil(),
+        task.getCreatedAt(),
+        task.getUpdatedAt());
+  }
+}
@@ -8,11 +8,18 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.projects.model.Milestones;
+import br.com.oriontask.backend.projects.model.Projects;
+import br.com.oriontask.backend.shared.enums.KarmaType;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
 import br.com.oriontask.backend.tasks.dto.TaskDTO;
 import br.com.oriontask.backend.tasks.exception.TaskAlreadyCompletedException;
 import br.com.oriontask.backend.tasks.mapper.TasksMapper;
@@ -30,14 +37,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TasksServiceMarkAsDoneTest {
 
   @Mock private TasksRepository repository;
   @Mock private DharmaLookupService dharmaLookup;
+  @Mock private ProjectLookupService projectLookup;
   @Mock private TasksMapper tasksMapper;
   @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private KarmaActivityRecorder karmaActivity;
+  @Mock private ProjectProgressRecorder projectProgress;
 
   @InjectMocks private TasksService tasksService;
 
@@ -68,12 +80,14 @@ class TasksServiceMarkAsDoneTest {
 
     assertEquals("Task is already completed", exception.getMessage());
     verify(repository, never()).save(any(Tasks.class));
+    verifyNoInteractions(karmaActivity);
   }
 
   @Test
   @DisplayName("Should mark task as done and persist")
   void markAsDoneShouldPersist() {
     Tasks task = buildTask(79L, TaskStatus.NOW);
+    task.setKarmaType(KarmaType.PEOPLE);
     UUID userId = task.getDharmas().getUser().getId();
 
     when(repository.findByIdAndUserId(79L, userId)).thenReturn(Optional.of(task));
@@ -98,6 +112,24 @@ class TasksServiceMarkAsDoneTest {
 
     verify(statusPolicy).markAsDone(task);
     verify(repository).save(task);
+    verify(karmaActivity).recordCompletion(userId, KarmaType.PEOPLE);
+  }
+
+  @Test
+  @DisplayName("Should count the completion on the task's project and milestone")
+  void markAsDoneShouldAdjustProjectProgress() {
+    Tasks task = buildTask(80L, TaskStatus.WAITING);
+    Projects project = Projects.builder().id(5L).build();
+    task.setProject(project);
+    task.setMilestone(Milestones.builder().id(6L).project(project).build());
+    UUID userId = task.getDharmas().getUser().getId();
+
+    when(repository.findByIdAndUserId(80L, userId)).thenReturn(Optional.of(task));
+    when(repository.save(task)).thenReturn(task);
+
+    tasksService.markAsDone(80L, userId);
+
+    verify(projectProgress).adjustProgress(5L, 6L, 0, 1);
   }
 
   private Tasks buildTask(Long taskId, TaskStatus status) {
@@ -12,9 +12,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.shared.enums.TaskEventType;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
 import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.event.TaskChangedEvent;
 import br.com.oriontask.backend.tasks.exception.NowTasksLimitExceededException;
 import br.com.oriontask.backend.tasks.exception.TaskStatusChangeNotAllowedException;
 import br.com.oriontask.backend.tasks.mapper.TasksMapper;
@@ -32,14 +37,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TasksServiceMoveToNowTest {
 
   @Mock private TasksRepository repository;
   @Mock private DharmaLookupService dharmaLookup;
+  @Mock private ProjectLookupService projectLookup;
   @Mock private TasksMapper tasksMapper;
   @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private KarmaActivityRecorder karmaActivity;
+  @Mock private ProjectProgressRecorder projectProgress;
 
   @InjectMocks private TasksService tasksService;
 
@@ -81,10 +91,7 @@ class TasksServiceMoveToNowTest {
     UUID userId = task.getDharmas().getUser().getId();
 
     when(repository.findByIdAndUserId(11L, userId)).thenReturn(Optional.of(task));
-    when(repository.countByDharmasUserIdAndStatus(userId, TaskStatus.NOW)).thenReturn(5L);
-    doThrow(new NowTasksLimitExceededException())
-        .when(statusPolicy)
-        .ensureNowLimitNotExceeded(5L, null);
+    doThrow(new NowTasksLimitExceededException()).when(statusPolicy).markAsNow(task);
 
     NowTasksLimitExceededException exception =
         assertThrows(
@@ -102,7 +109,6 @@ class TasksServiceMoveToNowTest {
     UUID userId = task.getDharmas().getUser().getId();
 
     when(repository.findByIdAndUserId(12L, userId)).thenReturn(Optional.of(task));
-    when(repository.countByDharmasUserIdAndStatus(userId, TaskStatus.NOW)).thenReturn(2L);
     doAnswer(
             invocation -> {
               Tasks target = invocation.getArgument(0);
@@ -122,9 +128,11 @@ class TasksServiceMoveToNowTest {
     assertNull(result.snoozedUntil());
 
     verify(statusPolicy).ensureStatusChangeAllowed(task);
-    verify(statusPolicy).ensureNowLimitNotExceeded(2L, null);
     verify(statusPolicy).markAsNow(task);
     verify(repository).save(task);
+    verify(eventPublisher)
+        .publishEvent(
+            new TaskChangedEvent(userId, 12L, TaskEventType.STATUS_CHANGED, TaskStatus.NOW));
   }
 
   private Tasks buildTask(Long taskId, TaskStatus status) {
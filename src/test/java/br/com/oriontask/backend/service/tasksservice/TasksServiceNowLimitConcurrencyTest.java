@@ -0,0 +1,206 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.oriontask.backend.dharmas.model.Dharmas;
+import br.com.oriontask.backend.dharmas.repository.DharmasRepository;
+import br.com.oriontask.backend.shared.enums.EffortLevel;
+import br.com.oriontask.backend.shared.enums.KarmaType;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.exception.NowTasksLimitExceededException;
+import br.com.oriontask.backend.tasks.model.Tasks;
+import br.com.oriontask.backend.tasks.model.UserNowSlots;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.repository.UserNowSlotsRepository;
+import br.com.oriontask.backend.tasks.service.TasksService;
+import br.com.oriontask.backend.users.model.Users;
+import br.com.oriontask.backend.users.repository.UsersRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    properties =
+        "spring.datasource.url=jdbc:h2:mem:oriontask_now_limit;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;"
+            + "LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class TasksServiceNowLimitConcurrencyTest {
+
+  private static final int THREADS = 16;
+  private static final int TASKS = 20;
+
+  @Autowired private TasksService tasksService;
+  @Autowired private TasksRepository tasksRepository;
+  @Autowired private DharmasRepository dharmasRepository;
+  @Autowired private UsersRepository usersRepository;
+  @Autowired private UserNowSlotsRepository nowSlotsRepository;
+
+  private ExecutorService executor;
+  private UUID userId;
+  private List<Long> taskIds;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(THREADS);
+
+    Users user =
+        usersRepository.save(
+            Users.builder()
+                .name("Stress user")
+                .email(UUID.randomUUID() + "@stress.test")
+                .passwordHash("hash")
+                .build());
+    userId = user.getId();
+    nowSlotsRepository.save(UserNowSlots.builder().userId(userId).build());
+
+    Dharmas dharma =
+        dharmasRepository.save(
+            Dharmas.builder().user(user).name("Stress").color("#FFFFFF").build());
+    taskIds =
+        tasksRepository
+            .saveAll(
+                IntStream.range(0, TASKS)
+                    .mapToObj(
+                        i ->
+                            Tasks.builder()
+                                .dharmas(dharma)
+                                .user(user)
+                                .title("Stress task " + i)
+                                .karmaType(KarmaType.ACTION)
+                                .effortLevel(EffortLevel.LOW)
+                                .status(TaskStatus.WAITING)
+                                .build())
+                    .toList())
+            .stream()
+            .map(Tasks::getId)
+            .toList();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Parallel moves to NOW should never exceed the NOW limit")
+  void parallelMovesShouldRespectNowLimit() throws Exception {
+    AtomicInteger moved = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+
+    List<Throwable> unexpected =
+        runConcurrently(
+            taskIds.stream()
+                .<Runnable>map(
+                    taskId ->
+                        () -> {
+                          try {
+                            tasksService.moveToNow(taskId, userId);
+                            moved.incrementAndGet();
+                          } catch (NowTasksLimitExceededException e) {
+                            rejected.incrementAndGet();
+                          }
+                        })
+                .toList());
+
+    assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+    assertEquals(5, moved.get());
+    assertEquals(TASKS - 5, rejected.get());
+    assertInvariant();
+  }
+
+  @Test
+  @DisplayName("Repeated moves of the same task should take a single NOW slot")
+  void repeatedMovesOfSameTaskShouldTakeOneSlot() throws Exception {
+    Long taskId = taskIds.getFirst();
+
+    List<Throwable> unexpected =
+        runConcurrently(
+            IntStream.range(0, THREADS)
+                .<Runnable>mapToObj(i -> () -> tasksService.moveToNow(taskId, userId))
+                .toList());
+
+    assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+    assertEquals(1, nowSlotsRepository.findById(userId).orElseThrow().getNowCount());
+    assertInvariant();
+  }
+
+  @Test
+  @DisplayName("Mixed status changes should keep the NOW counter equal to the NOW tasks")
+  void mixedStatusChangesShouldKeepCounterConsistent() throws Exception {
+    List<Runnable> operations = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      Random random = new Random(thread);
+      operations.add(
+          () -> {
+            for (int i = 0; i < 25; i++) {
+              Long taskId = taskIds.get(random.nextInt(TASKS));
+              try {
+                switch (random.nextInt(3)) {
+                  case 0 -> tasksService.moveToNow(taskId, userId);
+                  case 1 -> tasksService.changeStatus(taskId, TaskStatus.WAITING, userId);
+                  default -> tasksService.snoozeTask(taskId, userId);
+                }
+              } catch (NowTasksLimitExceededException e) {
+                // expected once five tasks are in NOW
+              }
+            }
+          });
+    }
+
+    List<Throwable> unexpected = runConcurrently(operations);
+
+    assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+    assertInvariant();
+  }
+
+  private List<Throwable> runConcurrently(List<Runnable> operations) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(operations.size());
+    ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+    for (Runnable operation : operations) {
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+              operation.run();
+            } catch (Throwable e) {
+              failures.add(e);
+            } finally {
+              done.countDown();
+            }
+          });
+    }
+    start.countDown();
+    assertTrue(done.await(60, TimeUnit.SECONDS), "Operations did not finish in time");
+    return new ArrayList<>(failures);
+  }
+
+  private void assertInvariant() {
+    long nowTasks =
+        tasksRepository
+            .findByUserIdAndStatus(userId, TaskStatus.NOW, Pageable.unpaged())
+            .getTotalElements();
+    int counter = nowSlotsRepository.findById(userId).orElseThrow().getNowCount();
+
+    assertTrue(nowTasks <= 5, "NOW tasks exceeded the limit: " + nowTasks);
+    assertEquals(nowTasks, counter);
+  }
+}
@@ -13,7 +13,11 @@ import static org.mockito.Mockito.when;
 import br.com.oriontask.backend.dharmas.model.Dharmas;
 import br.com.oriontask.backend.shared.enums.TaskStatus;
 import br.com.oriontask.backend.shared.utils.DharmaLookupService;
+import br.com.oriontask.backend.shared.utils.KarmaActivityRecorder;
+import br.com.oriontask.backend.shared.utils.ProjectLookupService;
+import br.com.oriontask.backend.shared.utils.ProjectProgressRecorder;
 import br.com.oriontask.backend.tasks.dto.TaskDTO;
+import br.com.oriontask.backend.tasks.event.TaskSnoozedEvent;
 import br.com.oriontask.backend.tasks.exception.TaskStatusChangeNotAllowedException;
 import br.com.oriontask.backend.tasks.mapper.TasksMapper;
 import br.com.oriontask.backend.tasks.model.Tasks;
@@ -30,14 +34,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TasksServiceSnoozeTaskTest {
 
   @Mock private TasksRepository repository;
   @Mock private DharmaLookupService dharmaLookup;
+  @Mock private ProjectLookupService projectLookup;
   @Mock private TasksMapper tasksMapper;
   @Mock private TaskStatusTransitionPolicy statusPolicy;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private KarmaActivityRecorder karmaActivity;
+  @Mock private ProjectProgressRecorder projectProgress;
 
   @InjectMocks private TasksService tasksService;
 
@@ -102,6 +111,7 @@ class TasksServiceSnoozeTaskTest {
     verify(statusPolicy).ensureStatusChangeAllowed(task);
     verify(statusPolicy).snoozeTask(task);
     verify(repository).save(task);
+    verify(eventPublisher).publishEvent(new TaskSnoozedEvent(userId, 79L, result.snoozedUntil()));
   }
 
   private Tasks buildTask(Long taskId, TaskStatus status) {
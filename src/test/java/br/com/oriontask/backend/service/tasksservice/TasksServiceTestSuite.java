@@ -11,6 +11,14 @@ import org.junit.platform.suite.api.Suite;
   TasksServiceMoveToNowTest.class,
   TasksServiceMarkAsDoneTest.class,
   TasksServiceSnoozeTaskTest.class,
-  TasksServicePromoteWaitingTest.class
+  WaitingPromotionServiceTest.class,
+  NowSlotServiceTest.class,
+  TasksServiceListTasksByCursorTest.class,
+  TasksServiceApplyBatchTest.class,
+  SnoozeExpiryServiceTest.class,
+  TaskExportServiceTest.class,
+  TaskImportServiceTest.class,
+  TaskSearchServiceTest.class,
+  TaskSyncServiceTest.class
 })
 public class TasksServiceTestSuite {}
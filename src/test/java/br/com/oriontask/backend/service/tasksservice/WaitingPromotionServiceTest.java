@@ -0,0 +1,164 @@
+package br.com.oriontask.backend.service.tasksservice;
+
+import static br.com.oriontask.backend.jobs.model.JobShard.ALL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.jobs.service.ClusterJobRunner;
+import br.com.oriontask.backend.shared.enums.TaskStatus;
+import br.com.oriontask.backend.tasks.policy.TaskStatusTransitionPolicy;
+import br.com.oriontask.backend.tasks.repository.TasksRepository;
+import br.com.oriontask.backend.tasks.repository.WaitingPromotionCandidate;
+import br.com.oriontask.backend.tasks.service.NowSlotService;
+import br.com.oriontask.backend.tasks.service.WaitingPromotionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingPromotionServiceTest {
+
+  @Mock private TasksRepository repository;
+  @Mock private NowSlotService nowSlots;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private ClusterJobRunner jobRunner;
+
+  private SimpleMeterRegistry meterRegistry;
+  private WaitingPromotionService promotionService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    promotionService =
+        new WaitingPromotionService(
+            repository,
+            nowSlots,
+            new TaskStatusTransitionPolicy(nowSlots),
+            new TransactionTemplate(transactionManager),
+            meterRegistry,
+            jobRunner,
+            eventPublisher);
+    ReflectionTestUtils.setField(promotionService, "chunkSize", 2);
+  }
+
+  @Test
+  @DisplayName("Should promote newest WAITING task only for users below the NOW limit")
+  void shouldPromoteOnlyUsersWithCapacity() {
+    WaitingPromotionCandidate first = candidate(1L, 3L);
+    WaitingPromotionCandidate full = candidate(2L, 5L);
+    WaitingPromotionCandidate empty = candidate(3L, 0L);
+    List<UUID> userIds = List.of(first.getUserId(), empty.getUserId());
+
+    when(repository.findWaitingPromotionCandidates(ALL.fromUserId(), ALL.toUserId()))
+        .thenReturn(List.of(first, full, empty));
+    when(nowSlots.lockCounts(userIds))
+        .thenReturn(Map.of(first.getUserId(), 3, empty.getUserId(), 0));
+    when(repository.lockWaitingTaskIds(List.of(1L, 3L))).thenReturn(List.of(1L, 3L));
+    when(repository.updateStatusByIdIn(List.of(1L, 3L), TaskStatus.WAITING, TaskStatus.NOW))
+        .thenReturn(2);
+
+    WaitingPromotionService.RunMetrics metrics = promotionService.run(ALL);
+
+    assertEquals(3, metrics.usersScanned());
+    assertEquals(2, metrics.promoted());
+    assertEquals(2.0, meterRegistry.counter("oriontask.promotion.tasks.promoted").count());
+    verify(nowSlots).reserveAll(userIds);
+  }
+
+  @Test
+  @DisplayName("Should split promotions into bounded chunks")
+  void shouldApplyPromotionsInChunks() {
+    List<WaitingPromotionCandidate> candidates =
+        List.of(candidate(1L, 0L), candidate(2L, 1L), candidate(3L, 2L), candidate(4L, 4L));
+
+    when(repository.findWaitingPromotionCandidates(ALL.fromUserId(), ALL.toUserId()))
+        .thenReturn(candidates);
+    when(nowSlots.lockCounts(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<UUID> userIds = invocation.getArgument(0);
+              return userIds.stream()
+                  .collect(Collectors.toMap(userId -> userId, userId -> 1));
+            });
+    when(repository.lockWaitingTaskIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+    when(repository.lockWaitingTaskIds(List.of(3L, 4L))).thenReturn(List.of(3L, 4L));
+    when(repository.updateStatusByIdIn(List.of(1L, 2L), TaskStatus.WAITING, TaskStatus.NOW))
+        .thenReturn(2);
+    when(repository.updateStatusByIdIn(List.of(3L, 4L), TaskStatus.WAITING, TaskStatus.NOW))
+        .thenReturn(1);
+
+    WaitingPromotionService.RunMetrics metrics = promotionService.run(ALL);
+
+    assertEquals(4, metrics.usersScanned());
+    assertEquals(3, metrics.promoted());
+  }
+
+  @Test
+  @DisplayName("Should skip tasks that changed or users that filled up since the scan")
+  void shouldRecheckCandidatesUnderLock() {
+    WaitingPromotionCandidate moved = candidate(1L, 0L);
+    WaitingPromotionCandidate filled = candidate(2L, 4L);
+
+    when(repository.findWaitingPromotionCandidates(ALL.fromUserId(), ALL.toUserId()))
+        .thenReturn(List.of(moved, filled));
+    when(nowSlots.lockCounts(List.of(moved.getUserId(), filled.getUserId())))
+        .thenReturn(Map.of(moved.getUserId(), 0, filled.getUserId(), 5));
+    when(repository.lockWaitingTaskIds(List.of(1L, 2L))).thenReturn(List.of(2L));
+
+    WaitingPromotionService.RunMetrics metrics = promotionService.run(ALL);
+
+    assertEquals(0, metrics.promoted());
+    verify(repository, never()).updateStatusByIdIn(anyList(), any(), any());
+    verify(nowSlots, never()).reserveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("Should not update anything when every user is at the NOW limit")
+  void shouldNotPromoteWhenNoCapacity() {
+    when(repository.findWaitingPromotionCandidates(ALL.fromUserId(), ALL.toUserId()))
+        .thenReturn(List.of(candidate(1L, 5L)));
+
+    WaitingPromotionService.RunMetrics metrics = promotionService.run(ALL);
+
+    assertEquals(1, metrics.usersScanned());
+    assertEquals(0, metrics.promoted());
+    verify(repository, never()).updateStatusByIdIn(anyList(), any(), any());
+  }
+
+  private WaitingPromotionCandidate candidate(Long taskId, Long nowCount) {
+    UUID userId = UUID.randomUUID();
+    return new WaitingPromotionCandidate() {
+      @Override
+      public Long getTaskId() {
+        return taskId;
+      }
+
+      @Override
+      public UUID getUserId() {
+        return userId;
+      }
+
+      @Override
+      public Long getNowCount() {
+        return nowCount;
+      }
+    };
+  }
+}
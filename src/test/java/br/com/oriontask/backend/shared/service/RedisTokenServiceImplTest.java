@@ -5,9 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import br.com.oriontask.backend.auth.service.TokenService;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import java.time.Duration;
+import java.util.Date;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +27,9 @@ class RedisTokenServiceImplTest {
 
   @Mock private StringRedisTemplate redisTemplate;
   @Mock private ValueOperations<String, String> valueOperations;
+  @Mock private TokenService tokenService;
+  @Mock private RevokedTokenCache revokedTokens;
+  @Mock private DecodedJWT decodedJWT;
 
   @InjectMocks private RedisTokenService redisTokenService;
 
@@ -109,4 +116,20 @@ class RedisTokenServiceImplTest {
 
     verify(redisTemplate, times(1)).delete(key);
   }
+
+  @Test
+  @DisplayName("Should blacklist token until it expires and record the revocation locally")
+  void blacklistToken_shouldStoreAndRecordRevocation() {
+    Date expiresAt = new Date(System.currentTimeMillis() + 60_000);
+    when(tokenService.validateAccessToken("access-token")).thenReturn(decodedJWT);
+    when(decodedJWT.getId()).thenReturn("jti-1");
+    when(decodedJWT.getExpiresAt()).thenReturn(expiresAt);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+    redisTokenService.blacklistToken("access-token");
+
+    verify(valueOperations)
+        .set(eq("blacklisted_token:jti-1"), eq("true"), anyLong(), eq(TimeUnit.MILLISECONDS));
+    verify(revokedTokens).revoke("jti-1", expiresAt.getTime());
+  }
 }
@@ -0,0 +1,89 @@
+package br.com.oriontask.backend.shared.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.oriontask.backend.shared.cache.TwoTierCacheManager;
+import br.com.oriontask.backend.shared.utils.CacheNames;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationEpochServiceTest {
+
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private static final String CHANNEL = "test:cache-invalidation";
+
+  private final UUID userId = UUID.randomUUID();
+  private final String epochKey = "revocation_epoch:" + userId;
+
+  private RevocationEpochService revocationEpochs;
+
+  @BeforeEach
+  void setUp() {
+    revocationEpochs =
+        new RevocationEpochService(
+            redisTemplate,
+            new TwoTierCacheManager(redisTemplate, JsonMapper.builder().build(), CHANNEL)
+                .registerLocal(
+                    CacheNames.REVOCATION_EPOCHS, Long.class, Duration.ofSeconds(30), 100));
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("Should accept tokens of users without an epoch and remember that only locally")
+  void isRevokedShouldCacheMissingEpoch() {
+    when(valueOperations.get(epochKey)).thenReturn(null);
+
+    assertFalse(revocationEpochs.isRevoked(userId, new Date()));
+    assertFalse(revocationEpochs.isRevoked(userId, new Date()));
+
+    verify(valueOperations, times(1)).get(epochKey);
+    verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Should reject tokens issued before the epoch and accept those issued after")
+  void isRevokedShouldCompareIssuedAtWithEpoch() {
+    Instant epoch = Instant.now();
+    when(valueOperations.get(epochKey)).thenReturn(Long.toString(epoch.getEpochSecond()));
+
+    assertTrue(revocationEpochs.isRevoked(userId, Date.from(epoch.minusSeconds(60))));
+    assertFalse(revocationEpochs.isRevoked(userId, Date.from(epoch.plusSeconds(1))));
+  }
+
+  @Test
+  @DisplayName("Should store the new epoch and drop the cached one on every node on bump")
+  void bumpShouldRevokeEarlierTokens() {
+    Date issuedAt = Date.from(Instant.now().minusSeconds(60));
+    when(valueOperations.get(epochKey)).thenReturn(null);
+    assertFalse(revocationEpochs.isRevoked(userId, issuedAt));
+
+    revocationEpochs.bump(userId);
+    when(valueOperations.get(epochKey)).thenReturn(Long.toString(Instant.now().getEpochSecond()));
+
+    assertTrue(revocationEpochs.isRevoked(userId, issuedAt));
+    verify(valueOperations).set(eq(epochKey), anyString(), eq(Duration.ofDays(8)));
+    verify(redisTemplate).convertAndSend(CHANNEL, "revocation-epochs|" + userId);
+  }
+}
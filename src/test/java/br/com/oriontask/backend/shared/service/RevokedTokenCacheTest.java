@@ -0,0 +1,93 @@
+package br.com.oriontask.backend.shared.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenCacheTest {
+
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private Cursor<String> cursor;
+
+  private RevokedTokenCache revokedTokens;
+
+  @BeforeEach
+  void setUp() {
+    revokedTokens = new RevokedTokenCache(redisTemplate, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(revokedTokens, "pubSubEnabled", true);
+    ReflectionTestUtils.setField(revokedTokens, "channel", "test:token-revocations");
+    ReflectionTestUtils.setField(revokedTokens, "expectedTokens", 1000);
+  }
+
+  private void givenSyncedWith(String revokedJti) {
+    when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(true, false);
+    when(cursor.next()).thenReturn("blacklisted_token:" + revokedJti);
+    when(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .thenReturn(List.<Object>of(60_000L));
+    ReflectionTestUtils.setField(revokedTokens, "subscribed", true);
+    revokedTokens.resync();
+  }
+
+  @Test
+  @DisplayName("Should ask Redis while the local copy has not been synced")
+  void isRevokedShouldFallBackToRedisBeforeSync() {
+    when(redisTemplate.hasKey("blacklisted_token:jti-1")).thenReturn(true);
+
+    assertTrue(revokedTokens.isRevoked("jti-1"));
+  }
+
+  @Test
+  @DisplayName("Should answer from the local copy once synced")
+  void isRevokedShouldAnswerLocallyAfterSync() {
+    givenSyncedWith("revoked-jti");
+
+    assertTrue(revokedTokens.isRevoked("revoked-jti"));
+    assertFalse(revokedTokens.isRevoked("live-jti"));
+    verify(redisTemplate, never()).hasKey(anyString());
+  }
+
+  @Test
+  @DisplayName("Should record a local revocation and announce it to the other nodes")
+  void revokeShouldAddLocallyAndPublish() {
+    givenSyncedWith("revoked-jti");
+    long expiresAt = System.currentTimeMillis() + 60_000;
+
+    revokedTokens.revoke("new-jti", expiresAt);
+
+    assertTrue(revokedTokens.isRevoked("new-jti"));
+    verify(redisTemplate).convertAndSend("test:token-revocations", "new-jti|" + expiresAt);
+    verify(redisTemplate, never()).hasKey(anyString());
+  }
+
+  @Test
+  @DisplayName("Should go back to Redis checks when the subscription drops")
+  void unsubscribeShouldFallBackToRedis() {
+    givenSyncedWith("revoked-jti");
+    when(redisTemplate.hasKey("blacklisted_token:live-jti")).thenReturn(false);
+
+    revokedTokens.onUnsubscribed();
+
+    assertFalse(revokedTokens.isRevoked("live-jti"));
+    verify(redisTemplate).hasKey("blacklisted_token:live-jti");
+  }
+}